@@ -0,0 +1,32 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthUserArgumentResolverBenchmark {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        // JwtFilter 가 넣는 것과 같은 형태의 요청 속성
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "bench@email.com");
+        request.setAttribute("userRole", UserRole.USER.name());
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+}
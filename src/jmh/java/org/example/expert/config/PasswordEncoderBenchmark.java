@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// cost 별로 코어 하나가 초당 처리하는 해시 수(ops/s)를 잽니다. 전체 용량은 이 값에 로그인 처리에 쓸 코어 수를 곱해 어림합니다.
+// 비교할 cost 만 돌리려면 -PjmhCosts=10,12 처럼 지정합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "8", "10", "12", "14"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", cost);
+        passwordEncoder.calibrate();
+        encoded = passwordEncoder.encode("benchmark-password");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("benchmark-password");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("benchmark-password", encoded);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 API 한 페이지 분량을 TodoService 가 쓰는 TodoResponse.from 으로 변환합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoMappingBenchmark {
+
+    @Param({"1", "100"})
+    private int pageSize;
+
+    private final List<Todo> todos = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench@email.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= pageSize; id++) {
+            Todo todo = new Todo("title" + id, "contents" + id, "sunny", user);
+            ReflectionTestUtils.setField(todo, "id", id);
+            ReflectionTestUtils.setField(todo, "createdAt", now);
+            ReflectionTestUtils.setField(todo, "modifiedAt", now);
+            todos.add(todo);
+        }
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        for (Todo todo : todos) {
+            TodoResponse response = TodoResponse.from(todo);
+            blackhole.consume(response);
+        }
+    }
+}
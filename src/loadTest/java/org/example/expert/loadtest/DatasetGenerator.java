@@ -0,0 +1,287 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.PasswordEncoder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 운영 규모의 데이터를 결정적으로 만들어 넣는 생성기
+// 같은 옵션과 시드라면 항상 같은 행이 같은 순서로 들어가므로, 벤치마크와 실행 계획 확인 결과를 실행 간에 비교할 수 있습니다.
+// gradle generateDataset -Pusers=1000000 -Ptodos=2000000 -Pcomments=10000000
+//
+// 기본 H2 파일(build/dataset)은 실행마다 스키마를 새로 만듭니다.
+// -PjdbcUrl 로 지정한 데이터베이스는 스키마를 검증만 하고 대상 테이블이 비어 있을 때만 넣으며,
+// 스키마를 지우고 다시 만들려면 -PrecreateSchema 를 함께 지정해야 합니다.
+//
+// - 유저: 소수의 헤비 유저가 대부분의 일정을 만듭니다.
+// - 일정: 상위 hotTodos 개의 일정에 댓글의 hotShare 비율이 몰리고, 나머지는 멱법칙 분포를 따릅니다.
+// - 담당자: 일정마다 작성자 + 평균 managers 명이며, 인기 일정은 hotManagers 명입니다.
+// - 댓글: 해당 일정의 담당자 중 한 명이 작성한 최상위 댓글입니다.
+public class DatasetGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int MANAGER_CACHE_SIZE = 100_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./build/dataset/expert";
+    private static final String JDBC_URL_ARG = "--spring.datasource.url=";
+    private static final List<String> TABLES = List.of("users", "todos", "managers", "comments");
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("users", "1000000");
+        DEFAULTS.put("todos", "2000000");
+        DEFAULTS.put("comments", "10000000");
+        DEFAULTS.put("managers", "8");
+        DEFAULTS.put("hotTodos", "20");
+        DEFAULTS.put("hotShare", "0.2");
+        DEFAULTS.put("hotManagers", "500");
+        DEFAULTS.put("skew", "2.5");
+        DEFAULTS.put("seed", "42");
+        DEFAULTS.put("recreateSchema", "false");
+    }
+
+    private final Map<String, String> options;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long seed;
+    private final int userCount;
+    private final int todoCount;
+    private final double skew;
+
+    DatasetGenerator(Map<String, String> options, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.options = options;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.seed = Long.parseLong(options.get("seed"));
+        this.userCount = Integer.parseInt(options.get("users"));
+        this.todoCount = Integer.parseInt(options.get("todos"));
+        this.skew = Double.parseDouble(options.get("skew"));
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        List<String> springArgs = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--jwt.secret.key=" + LoadTestRunner.JWT_SECRET_KEY,
+                "--auth.email-filter.refresh-millis=3600000",
+                "--logging.level.root=WARN"
+        ));
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair.length == 2 && DEFAULTS.containsKey(pair[0])) {
+                options.put(pair[0], pair[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+
+        // 지정한 데이터베이스를 실수로 지우지 않도록, 스키마 재생성은 기본 파일 DB 이거나 명시한 경우에만 합니다.
+        boolean defaultDatabase = springArgs.stream().noneMatch(arg -> arg.startsWith(JDBC_URL_ARG));
+        boolean recreateSchema = defaultDatabase || Boolean.parseBoolean(options.get("recreateSchema"));
+        options.put("recreateSchema", String.valueOf(recreateSchema));
+        if (defaultDatabase) {
+            springArgs.add(JDBC_URL_ARG + DEFAULT_JDBC_URL);
+        }
+        springArgs.add("--spring.jpa.hibernate.ddl-auto=" + (recreateSchema ? "create" : "validate"));
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(ExpertApplication.class, springArgs.toArray(new String[0]))) {
+            System.out.println("options " + options);
+            DatasetGenerator generator = new DatasetGenerator(options,
+                    context.getBean(JdbcTemplate.class), context.getBean(TransactionTemplate.class));
+            generator.generate(context.getBean(PasswordEncoder.class).encode(LoadTestSeeder.PASSWORD));
+        }
+        System.exit(0);
+    }
+
+    void generate(String encodedPassword) {
+        requireEmptyTables();
+        insertUsers(encodedPassword);
+        insertTodos();
+        insertManagers();
+        insertComments();
+        printSummary();
+    }
+
+    private void insertUsers(String encodedPassword) {
+        insert("users", "INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)",
+                userCount, (ps, i) -> {
+                    Timestamp createdAt = timestamp(i, userCount);
+                    ps.setString(1, String.format("user-%07d@example.com", i + 1));
+                    ps.setString(2, encodedPassword);
+                    ps.setString(3, i % 1000 == 0 ? "ADMIN" : "USER");
+                    ps.setTimestamp(4, createdAt);
+                    ps.setTimestamp(5, createdAt);
+                });
+        requireContiguousIds("users", userCount);
+    }
+
+    // 작성자는 멱법칙으로 골라 소수의 헤비 유저에게 일정이 몰리게 합니다.
+    private void insertTodos() {
+        SplittableRandom random = new SplittableRandom(seed);
+        insert("todos", "INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                todoCount, (ps, i) -> {
+                    Timestamp createdAt = timestamp(i, todoCount);
+                    ps.setString(1, "title-" + (i + 1));
+                    ps.setString(2, "contents-" + (i + 1));
+                    ps.setString(3, WEATHERS[(int) (i % WEATHERS.length)]);
+                    ps.setLong(4, 1 + skewed(random, userCount));
+                    ps.setTimestamp(5, createdAt);
+                    ps.setTimestamp(6, createdAt);
+                });
+        requireContiguousIds("todos", todoCount);
+    }
+
+    private void insertManagers() {
+        long[] ownerIds = jdbcTemplate.queryForList("SELECT user_id FROM todos ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        long total = 0;
+        for (int t = 0; t < todoCount; t++) {
+            total += managersOf(t + 1, ownerIds[t]).length;
+        }
+
+        // 담당자 행은 일정 단위로 만들어지므로 (일정 id, 목록 내 위치) 커서를 따라가며 채웁니다.
+
+        long[] cursor = new long[]{1, 0};
+        long[][] members = new long[][]{managersOf(1, ownerIds[0])};
+        insert("managers", "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", total, (ps, i) -> {
+            while (cursor[1] == members[0].length) {
+                cursor[0]++;
+                cursor[1] = 0;
+                members[0] = managersOf(cursor[0], ownerIds[(int) cursor[0] - 1]);
+            }
+            ps.setLong(1, members[0][(int) cursor[1]++]);
+            ps.setLong(2, cursor[0]);
+        });
+    }
+
+    // 댓글은 인기 일정에 hotShare 만큼 몰리고, 나머지는 앞쪽 일정일수록 많아지는 멱법칙 분포를 따릅니다.
+    private void insertComments() {
+        long commentCount = Long.parseLong(options.get("comments"));
+        int hotTodos = Math.min(Integer.parseInt(options.get("hotTodos")), todoCount);
+        double hotShare = Double.parseDouble(options.get("hotShare"));
+        long[] ownerIds = jdbcTemplate.queryForList("SELECT user_id FROM todos ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        // 댓글이 몰리는 앞쪽 일정의 담당자 목록은 매번 다시 만들지 않도록 보관합니다.
+        long[][] cachedManagers = new long[Math.min(todoCount, MANAGER_CACHE_SIZE)][];
+
+        insert("comments", "INSERT INTO comments (contents, user_id, todo_id, depth, created_at, modified_at) VALUES (?, ?, ?, 0, ?, ?)",
+                commentCount, (ps, i) -> {
+                    long todoId = random.nextDouble() < hotShare
+                            ? 1 + random.nextInt(hotTodos)
+                            : 1 + skewed(random, todoCount);
+                    long[] managers;
+                    if (todoId <= cachedManagers.length) {
+                        if (cachedManagers[(int) todoId - 1] == null) {
+                            cachedManagers[(int) todoId - 1] = managersOf(todoId, ownerIds[(int) todoId - 1]);
+                        }
+                        managers = cachedManagers[(int) todoId - 1];
+                    } else {
+                        managers = managersOf(todoId, ownerIds[(int) todoId - 1]);
+                    }
+                    Timestamp createdAt = timestamp(i, commentCount);
+                    ps.setString(1, "comment-" + (i + 1));
+                    ps.setLong(2, managers[random.nextInt(managers.length)]);
+                    ps.setLong(3, todoId);
+                    ps.setTimestamp(4, createdAt);
+                    ps.setTimestamp(5, createdAt);
+                });
+    }
+
+    // 일정의 담당자 목록. 일정 id 로 시드한 난수라서 댓글 작성자를 고를 때 같은 목록을 다시 계산할 수 있습니다.
+    long[] managersOf(long todoId, long ownerId) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + todoId);
+        int hotTodos = Integer.parseInt(options.get("hotTodos"));
+        int mean = Integer.parseInt(options.get("managers"));
+        int extra = todoId <= hotTodos
+                ? Integer.parseInt(options.get("hotManagers"))
+                : (int) Math.round(-Math.log(1 - random.nextDouble()) * mean);
+        int size = Math.min(1 + extra, userCount);
+
+        LinkedHashSet<Long> members = new LinkedHashSet<>();
+        members.add(ownerId);
+        while (members.size() < size) {
+            members.add(1 + (long) random.nextInt(userCount));
+        }
+        return members.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // [0, n) 에서 앞쪽으로 치우친 값을 뽑습니다. skew 가 클수록 소수의 값에 몰립니다.
+    private long skewed(SplittableRandom random, int n) {
+        return Math.min(n - 1, (long) (n * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private static Timestamp timestamp(long index, long count) {
+        long seconds = 365L * 24 * 60 * 60 * index / Math.max(1, count);
+        return Timestamp.valueOf(EPOCH.plusSeconds(seconds));
+    }
+
+    private void requireEmptyTables() {
+        for (String table : TABLES) {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+            if (rows != null && rows > 0) {
+                throw new IllegalStateException(table + " 테이블에 이미 " + rows + "건이 있습니다. "
+                        + "빈 데이터베이스를 지정하거나 -PrecreateSchema 로 스키마를 다시 만들어주세요.");
+            }
+        }
+    }
+
+    private void requireContiguousIds(String table, long expected) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null || maxId != expected) {
+            throw new IllegalStateException(table + " 테이블의 id 가 1부터 연속되지 않습니다. 빈 데이터베이스에서 실행해주세요.");
+        }
+    }
+
+    private void insert(String table, String sql, long count, RowWriter writer) {
+        long start = System.nanoTime();
+        for (long from = 0; from < count; from += BATCH_SIZE) {
+            long offset = from;
+            int size = (int) Math.min(BATCH_SIZE, count - from);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    writer.write(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            }));
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("%-9s %,12d rows %8.1f s %,12.0f rows/s%n", table, count, seconds, count / Math.max(seconds, 0.001));
+    }
+
+    private void printSummary() {
+        Map<String, Object> comments = jdbcTemplate.queryForMap(
+                "SELECT MAX(cnt) AS max_count, AVG(cnt) AS avg_count, COUNT(*) AS todos FROM "
+                        + "(SELECT COUNT(*) AS cnt FROM comments GROUP BY todo_id) c");
+        Map<String, Object> managers = jdbcTemplate.queryForMap(
+                "SELECT MAX(cnt) AS max_count, AVG(cnt) AS avg_count FROM "
+                        + "(SELECT COUNT(*) AS cnt FROM managers GROUP BY todo_id) m");
+        Long maxOwned = jdbcTemplate.queryForObject(
+                "SELECT MAX(cnt) FROM (SELECT COUNT(*) AS cnt FROM todos GROUP BY user_id) t", Long.class);
+        System.out.printf("comments per todo: max=%s avg=%s (todos with comments=%s)%n",
+                comments.get("max_count"), comments.get("avg_count"), comments.get("todos"));
+        System.out.printf("managers per todo: max=%s avg=%s%n", managers.get("max_count"), managers.get("avg_count"));
+        System.out.printf("todos per user: max=%s%n", maxOwned);
+    }
+
+    @FunctionalInterface
+    interface RowWriter {
+        void write(PreparedStatement ps, long index) throws SQLException;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.loadtest;
+
+// 부하 테스트에서 호출하는 엔드포인트와 호출 비중(가중치)
+// 읽기 위주의 실제 트래픽을 흉내 내되, 쓰기와 인증 요청도 섞어서 보냅니다.
+public enum Endpoint {
+    GET_TODOS("GET /todos", 25),
+    GET_TODO("GET /todos/{todoId}", 20),
+    SAVE_TODO("POST /todos", 4),
+    GET_COMMENT_PAGE("GET /todos/{todoId}/comments/page", 15),
+    SAVE_COMMENT("POST /todos/{todoId}/comments", 10),
+    GET_MANAGERS("GET /todos/{todoId}/managers", 12),
+    SAVE_MANAGER("POST /todos/{todoId}/managers", 2),
+    GET_MANAGED_TODOS("GET /users/me/managed-todos", 8),
+    SIGNIN("POST /auth/signin", 3),
+    SIGNUP("POST /auth/signup", 1);
+
+    private static final Endpoint[] VALUES = values();
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (Endpoint endpoint : VALUES) {
+            total += endpoint.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // 0 이상 TOTAL_WEIGHT 미만의 난수를 가중치 구간에 매핑합니다.
+    public static Endpoint pick(int random) {
+        int value = random % TOTAL_WEIGHT;
+        for (Endpoint endpoint : VALUES) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return VALUES[VALUES.length - 1];
+    }
+
+    public static int totalWeight() {
+        return TOTAL_WEIGHT;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.loadtest;
+
+import java.util.Arrays;
+
+// 워커 스레드 하나가 소유하는 지연 시간 기록기
+// 측정 중에는 스레드 간 공유가 없고, 끝난 뒤 merge 로 합쳐 정확한 백분위를 계산합니다.
+public class LatencyRecorder {
+
+    private final long[][] latencies = new long[Endpoint.values().length][];
+    private final int[] counts = new int[Endpoint.values().length];
+    private final int[] errors = new int[Endpoint.values().length];
+
+    public LatencyRecorder() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new long[1024];
+        }
+    }
+
+    public void record(Endpoint endpoint, long nanos, boolean success) {
+        int index = endpoint.ordinal();
+        if (!success) {
+            errors[index]++;
+        }
+        if (counts[index] == latencies[index].length) {
+            latencies[index] = Arrays.copyOf(latencies[index], latencies[index].length * 2);
+        }
+        latencies[index][counts[index]++] = nanos;
+    }
+
+    public void merge(LatencyRecorder other) {
+        for (int i = 0; i < latencies.length; i++) {
+            int total = counts[i] + other.counts[i];
+            if (total > latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], total);
+            }
+            System.arraycopy(other.latencies[i], 0, latencies[i], counts[i], other.counts[i]);
+            counts[i] = total;
+            errors[i] += other.errors[i];
+        }
+    }
+
+    public int count(Endpoint endpoint) {
+        return counts[endpoint.ordinal()];
+    }
+
+    public int errors(Endpoint endpoint) {
+        return errors[endpoint.ordinal()];
+    }
+
+    // 정렬된 값에서 nearest-rank 방식으로 백분위를 구합니다. 단위는 나노초입니다.
+    public long[] percentiles(Endpoint endpoint, double... percentiles) {
+        int index = endpoint.ordinal();
+        long[] sorted = Arrays.copyOf(latencies[index], counts[index]);
+        Arrays.sort(sorted);
+        long[] result = new long[percentiles.length];
+        if (sorted.length == 0) {
+            return result;
+        }
+        for (int i = 0; i < percentiles.length; i++) {
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * sorted.length);
+            result[i] = sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,291 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.EmailBloomFilter;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+// 전체 스택(JwtFilter → 인자 리졸버 → 컨트롤러 → 서비스 → JPA)에 대한 부하 테스트
+// H2 와 로컬 날씨 스텁으로 앱을 띄우고, 시드 데이터 위에서 여러 클라이언트가 동시에 요청을 보냅니다.
+// gradle loadTest -Pclients=64 -Pduration=30 -Pwarmup=10
+public class LoadTestRunner {
+
+    static final String JWT_SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    private static final Set<String> OPTIONS = Set.of(
+            "clients", "duration", "warmup", "users", "todos", "managers", "comments", "seed", "output");
+
+    private final Map<String, String> options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String baseUrl;
+    private LoadTestSeeder.SeededData data;
+    private String[] tokens;
+    private int hotTodoCount;
+
+    private LoadTestRunner(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair.length == 2 && OPTIONS.contains(pair[0])) {
+                options.put(pair[0], pair[1]);
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        new LoadTestRunner(options).run(springArgs);
+        System.exit(0);
+    }
+
+    private void run(List<String> springArgs) throws Exception {
+        try (WeatherStubServer weatherStub = WeatherStubServer.start()) {
+            List<String> args = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--management.server.port=0",
+                    "--jwt.secret.key=" + JWT_SECRET_KEY,
+                    "--weather.api.base-url=" + weatherStub.getBaseUrl(),
+                    "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                    "--logging.level.root=WARN"
+            ));
+            args.addAll(springArgs);
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(ExpertApplication.class, args.toArray(new String[0]))) {
+                baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+                prepare(context);
+
+                int clients = intOption("clients", 64);
+                long warmupNanos = Duration.ofSeconds(intOption("warmup", 10)).toNanos();
+                long durationNanos = Duration.ofSeconds(intOption("duration", 30)).toNanos();
+                System.out.printf("clients=%d, warmup=%ds, duration=%ds, target=%s%n",
+                        clients, intOption("warmup", 10), intOption("duration", 30), baseUrl);
+
+                LatencyRecorder total = drive(clients, warmupNanos, durationNanos);
+                report(total, durationNanos, context.getBean(ObjectMapper.class));
+            }
+        }
+    }
+
+    private void prepare(ConfigurableApplicationContext context) {
+        long start = System.nanoTime();
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        LoadTestSeeder seeder = new LoadTestSeeder(context.getBean(JdbcTemplate.class), longOption("seed", 42));
+        data = seeder.seed(intOption("users", 1_000), intOption("todos", 5_000), intOption("managers", 3),
+                intOption("comments", 5), passwordEncoder.encode(LoadTestSeeder.PASSWORD));
+        // JDBC 로 넣은 이메일은 필터가 모르므로 다시 만들어야 로그인이 거절되지 않습니다.
+        context.getBean(EmailBloomFilter.class).rebuild();
+
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        tokens = new String[data.userIds().length];
+        for (int i = 0; i < tokens.length; i++) {
+            UserRole userRole = i % 50 == 0 ? UserRole.ADMIN : UserRole.USER;
+            tokens[i] = jwtUtil.createToken(data.userIds()[i], data.emails()[i], userRole);
+        }
+        hotTodoCount = Math.max(1, data.todoIds().length / 100);
+        System.out.printf("seeded users=%d, todos=%d, bcrypt cost=%d in %d ms%n", data.userIds().length,
+                data.todoIds().length, passwordEncoder.getCost(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private LatencyRecorder drive(int clients, long warmupNanos, long durationNanos) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmupNanos;
+        long measureUntil = measureFrom + durationNanos;
+        LatencyRecorder[] recorders = new LatencyRecorder[clients];
+        Thread[] workers = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            int workerId = i;
+            recorders[i] = new LatencyRecorder();
+            workers[i] = new Thread(() -> work(workerId, recorders[workerId], measureFrom, measureUntil), "load-client-" + i);
+            workers[i].start();
+        }
+        LatencyRecorder total = new LatencyRecorder();
+        for (int i = 0; i < clients; i++) {
+            workers[i].join();
+            total.merge(recorders[i]);
+        }
+        return total;
+    }
+
+    private void work(int workerId, LatencyRecorder recorder, long measureFrom, long measureUntil) {
+        Random random = new Random(longOption("seed", 42) * 31 + workerId);
+        long sequence = 0;
+        while (System.nanoTime() < measureUntil) {
+            Endpoint endpoint = Endpoint.pick(random.nextInt(Endpoint.totalWeight()));
+            HttpRequest request = buildRequest(endpoint, random, workerId, sequence++);
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= measureFrom && start < measureUntil) {
+                recorder.record(endpoint, System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint, Random random, int workerId, long sequence) {
+        int userIndex = random.nextInt(tokens.length);
+        int todoIndex = pickTodo(random);
+        long todoId = data.todoIds()[todoIndex];
+        long[] members = data.managerUserIds()[todoIndex];
+
+        switch (endpoint) {
+            case GET_TODOS:
+                return get("/todos?page=" + (1 + random.nextInt(50)) + "&size=10", userIndex);
+            case GET_TODO:
+                return get("/todos/" + todoId, userIndex);
+            case SAVE_TODO:
+                return post("/todos", userIndex,
+                        "{\"title\":\"load-" + workerId + "-" + sequence + "\",\"contents\":\"contents\"}");
+            case GET_COMMENT_PAGE:
+                return get("/todos/" + todoId + "/comments/page?size=20", userIndex);
+            case SAVE_COMMENT:
+                // 댓글은 담당자만 달 수 있으므로 해당 일정의 담당자 토큰을 씁니다.
+                int writerIndex = indexOf(members[random.nextInt(members.length)]);
+                return post("/todos/" + todoId + "/comments", writerIndex, "{\"contents\":\"load comment " + sequence + "\"}");
+            case GET_MANAGERS:
+                return get("/todos/" + todoId + "/managers", userIndex);
+            case SAVE_MANAGER:
+                // 작성자 토큰으로, 아직 담당자가 아닌 유저를 배치합니다.
+                long managerUserId = data.userIds()[userIndex];
+                while (contains(members, managerUserId)) {
+                    managerUserId = data.userIds()[random.nextInt(tokens.length)];
+                }
+                return post("/todos/" + todoId + "/managers", indexOf(members[0]), "{\"managerUserId\":" + managerUserId + "}");
+            case GET_MANAGED_TODOS:
+                return get("/users/me/managed-todos?size=10", userIndex);
+            case SIGNIN:
+                return post("/auth/signin", -1,
+                        "{\"email\":\"" + data.emails()[userIndex] + "\",\"password\":\"" + LoadTestSeeder.PASSWORD + "\"}");
+            case SIGNUP:
+                return post("/auth/signup", -1, "{\"email\":\"load-signup-" + workerId + "-" + sequence
+                        + "@example.com\",\"password\":\"" + LoadTestSeeder.PASSWORD + "\",\"userRole\":\"USER\"}");
+            default:
+                throw new IllegalStateException("Unknown endpoint: " + endpoint);
+        }
+    }
+
+    // 요청의 20% 는 상위 1% 의 인기 일정으로 몰리도록 합니다.
+    private int pickTodo(Random random) {
+        if (random.nextInt(10) < 2) {
+            return random.nextInt(hotTodoCount);
+        }
+        return random.nextInt(data.todoIds().length);
+    }
+
+    private HttpRequest get(String path, int userIndex) {
+        return request(path, userIndex).GET().build();
+    }
+
+    private HttpRequest post(String path, int userIndex, String json) {
+        return request(path, userIndex)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, int userIndex) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (userIndex >= 0) {
+            builder.header("Authorization", tokens[userIndex]);
+        }
+        return builder;
+    }
+
+    private int indexOf(long userId) {
+        return Arrays.binarySearch(data.userIds(), userId);
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void report(LatencyRecorder recorder, long durationNanos, ObjectMapper objectMapper) throws IOException {
+        double seconds = durationNanos / 1_000_000_000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        System.out.printf("%n%-36s %9s %7s %9s %9s %9s %10s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)");
+        for (Endpoint endpoint : Endpoint.values()) {
+            int count = recorder.count(endpoint);
+            int errors = recorder.errors(endpoint);
+            long[] percentiles = recorder.percentiles(endpoint, PERCENTILES);
+            System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %10.2f%n", endpoint.getLabel(), count, errors,
+                    count / seconds, millis(percentiles[0]), millis(percentiles[1]), millis(percentiles[2]));
+            totalRequests += count;
+            totalErrors += errors;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint.getLabel());
+            row.put("requests", count);
+            row.put("errors", errors);
+            row.put("throughput", count / seconds);
+            row.put("p50Millis", millis(percentiles[0]));
+            row.put("p99Millis", millis(percentiles[1]));
+            row.put("p999Millis", millis(percentiles[2]));
+            rows.add(row);
+        }
+        System.out.printf("%-36s %9d %7d %9.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds);
+
+        String output = options.get("output");
+        if (output != null) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("clients", intOption("clients", 64));
+            result.put("durationSeconds", seconds);
+            result.put("requests", totalRequests);
+            result.put("errors", totalErrors);
+            result.put("throughput", totalRequests / seconds);
+            result.put("endpoints", rows);
+            Path path = Path.of(output);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), result);
+            System.out.println("results written to " + path.toAbsolutePath());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private long longOption(String name, long defaultValue) {
+        return options.containsKey(name) ? Long.parseLong(options.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// 부하 테스트 시작 전 H2 에 유저, 일정, 담당자, 댓글을 배치 insert 로 채웁니다.
+// 같은 시드라면 항상 같은 데이터가 만들어지므로 실행 간 결과를 비교할 수 있습니다.
+public class LoadTestSeeder {
+
+    static final String PASSWORD = "LoadTest1234!";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    public LoadTestSeeder(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    public SeededData seed(int userCount, int todoCount, int managersPerTodo, int commentsPerTodo, String encodedPassword) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(new Object[]{email(i), encodedPassword, i % 50 == 0 ? "ADMIN" : "USER", now, now});
+        }
+        batchInsert("INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)", users);
+        long[] userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        String[] emails = jdbcTemplate.queryForList("SELECT email FROM users ORDER BY id", String.class)
+                .toArray(new String[0]);
+
+        List<Object[]> todos = new ArrayList<>(todoCount);
+        for (int i = 0; i < todoCount; i++) {
+            todos.add(new Object[]{"title-" + i, "contents-" + i, "Sunny", userIds[i % userIds.length], now, now});
+        }
+        batchInsert("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", todos);
+        long[] todoIds = jdbcTemplate.queryForList("SELECT id FROM todos ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        // 작성자는 항상 담당자이고, 나머지 담당자는 작성자를 제외한 유저 중에서 무작위로 고릅니다.
+        long[][] managerUserIds = new long[todoIds.length][];
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < todoIds.length; i++) {
+            Set<Long> members = new LinkedHashSet<>();
+            members.add(userIds[i % userIds.length]);
+            int target = Math.min(managersPerTodo + 1, userIds.length);
+            while (members.size() < target) {
+                members.add(userIds[random.nextInt(userIds.length)]);
+            }
+            managerUserIds[i] = members.stream().mapToLong(Long::longValue).toArray();
+            for (long userId : managerUserIds[i]) {
+                managers.add(new Object[]{userId, todoIds[i]});
+            }
+            for (int c = 0; c < commentsPerTodo; c++) {
+                long writerId = managerUserIds[i][random.nextInt(managerUserIds[i].length)];
+                comments.add(new Object[]{"comment-" + c, writerId, todoIds[i], now, now});
+            }
+        }
+        batchInsert("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", managers);
+        batchInsert("INSERT INTO comments (contents, user_id, todo_id, depth, created_at, modified_at) VALUES (?, ?, ?, 0, ?, ?)", comments);
+
+        return new SeededData(userIds, emails, todoIds, managerUserIds);
+    }
+
+    static String email(int index) {
+        return String.format("loadtest-user-%06d@example.com", index);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    public record SeededData(long[] userIds, String[] emails, long[] todoIds, long[][] managerUserIds) {
+    }
+}
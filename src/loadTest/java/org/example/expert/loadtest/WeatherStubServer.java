@@ -0,0 +1,67 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+
+// WeatherClient 가 호출하는 외부 날씨 API 를 대신하는 로컬 스텁 서버
+// 윤년 기준으로 모든 날짜(MM-dd)의 날씨를 내려주므로 실행 날짜와 관계없이 응답이 매칭됩니다.
+public class WeatherStubServer implements AutoCloseable {
+
+    static final String PATH = "/f-api/weather.json";
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    private final HttpServer server;
+
+    private WeatherStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static WeatherStubServer start() throws IOException {
+        byte[] body = buildBody();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(PATH, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "weather-stub");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        return new WeatherStubServer(server);
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] buildBody() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringBuilder json = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < date.lengthOfYear(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(date.plusDays(i).format(formatter))
+                    .append("\",\"weather\":\"").append(WEATHERS[i % WEATHERS.length]).append("\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,11 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.config.MetricsConfig;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,17 +16,38 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Timer successTimer;
+    private final Timer errorTimer;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    // 부하 테스트 등에서 로컬 스텁 서버로 바꿔 끼울 수 있도록 주소를 설정으로 받습니다.
+    public WeatherClient(RestTemplateBuilder builder, @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+                         MeterRegistry meterRegistry) {
         this.restTemplate = builder.build();
+        this.baseUrl = baseUrl;
+        this.successTimer = MetricsConfig.latencyTimer(meterRegistry, "weather.client.requests", "outcome", "success");
+        this.errorTimer = MetricsConfig.latencyTimer(meterRegistry, "weather.client.requests", "outcome", "error");
     }
 
     public String getTodayWeather() {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            String weather = fetchTodayWeather();
+            success = true;
+            return weather;
+        } finally {
+            (success ? successTimer : errorTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String fetchTodayWeather() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -49,7 +74,7 @@ public class WeatherClient {
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -0,0 +1,73 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러 엔드포인트별 지연 시간
+// 핸들러 메서드와 응답 분류(2xx, 4xx ...)별 타이머를 처음 한 번만 등록하고, 시작 시각은 스레드별 배열에 담아 요청마다 할당이 없게 합니다.
+// 스트리밍처럼 비동기로 이어지는 요청은 시작 시각을 요청 속성으로 넘겨, 다른 스레드의 async 디스패치가 끝날 때까지를 기록합니다.
+@Component
+@RequiredArgsConstructor
+public class EndpointMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ASYNC_START_NANOS_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".START_NANOS";
+
+    private static final String[] OUTCOMES = {"INFORMATIONAL", "SUCCESS", "REDIRECTION", "CLIENT_ERROR", "SERVER_ERROR"};
+    private static final ThreadLocal<long[]> START_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async 디스패치는 처음 요청의 연장이므로 시작 시각을 다시 찍지 않습니다.
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            START_NANOS.get()[0] = System.nanoTime();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(ASYNC_START_NANOS_ATTRIBUTE, START_NANOS.get()[0]);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        Object asyncStart = request.getAttribute(ASYNC_START_NANOS_ATTRIBUTE);
+        long start = asyncStart != null ? (Long) asyncStart : START_NANOS.get()[0];
+        long elapsed = System.nanoTime() - start;
+
+        int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        int outcome = Math.max(1, Math.min(OUTCOMES.length, status / 100)) - 1;
+        Timer[] byOutcome = timers.computeIfAbsent(((HandlerMethod) handler).getMethod(), method -> new Timer[OUTCOMES.length]);
+        Timer timer = byOutcome[outcome];
+        if (timer == null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            timer = MetricsConfig.latencyTimer(meterRegistry, "api.requests",
+                    "method", request.getMethod(),
+                    "uri", pattern != null ? pattern.toString() : "UNKNOWN",
+                    "outcome", OUTCOMES[outcome]);
+            byOutcome[outcome] = timer;
+        }
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,6 +1,10 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.service.UserActivityTracker;
+import org.example.expert.domain.user.service.UserDeactivationRegistry;
+import org.example.expert.domain.user.service.UserRoleChangeRegistry;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,11 +14,15 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final UserDeactivationRegistry userDeactivationRegistry;
+    private final UserRoleChangeRegistry userRoleChangeRegistry;
+    private final UserActivityTracker userActivityTracker;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, userDeactivationRegistry, userRoleChangeRegistry, userActivityTracker, meterRegistry));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
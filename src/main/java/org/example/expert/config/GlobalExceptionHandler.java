@@ -1,5 +1,7 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
@@ -14,20 +16,34 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 처리 결과별 건수. 요청마다 태그를 만들지 않도록 미리 등록해 둡니다.
+    private final Counter invalidRequestCounter;
+    private final Counter authCounter;
+    private final Counter serverCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.invalidRequestCounter = exceptionCounter(meterRegistry, "InvalidRequestException", HttpStatus.BAD_REQUEST);
+        this.authCounter = exceptionCounter(meterRegistry, "AuthException", HttpStatus.UNAUTHORIZED);
+        this.serverCounter = exceptionCounter(meterRegistry, "ServerException", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
     public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
+        invalidRequestCounter.increment();
         HttpStatus status = HttpStatus.BAD_REQUEST;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(AuthException.class)
     public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
+        authCounter.increment();
         HttpStatus status = HttpStatus.UNAUTHORIZED;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
+        serverCounter.increment();
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         return getErrorResponse(status, ex.getMessage());
     }
@@ -40,5 +56,11 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, status);
     }
+
+    private static Counter exceptionCounter(MeterRegistry meterRegistry, String exception, HttpStatus status) {
+        return Counter.builder("api.exceptions")
+                .tags("exception", exception, "status", String.valueOf(status.value()))
+                .register(meterRegistry);
+    }
 }
 
@@ -4,21 +4,48 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserActivityTracker;
+import org.example.expert.domain.user.service.UserDeactivationRegistry;
+import org.example.expert.domain.user.service.UserRoleChangeRegistry;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final UserDeactivationRegistry userDeactivationRegistry;
+    private final UserRoleChangeRegistry userRoleChangeRegistry;
+    private final UserActivityTracker userActivityTracker;
+
+    // 토큰 검증(서명 확인, claims 추출, 탈퇴 여부와 권한 변경 확인) 시간을 결과별로 기록합니다.
+    private final Timer verifiedTimer;
+    private final Timer invalidTimer;
+    private final Timer expiredTimer;
+    private final Timer deactivatedTimer;
+    private final Timer roleChangedTimer;
+
+    public JwtFilter(JwtUtil jwtUtil, UserDeactivationRegistry userDeactivationRegistry, UserRoleChangeRegistry userRoleChangeRegistry,
+                     UserActivityTracker userActivityTracker, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDeactivationRegistry = userDeactivationRegistry;
+        this.userRoleChangeRegistry = userRoleChangeRegistry;
+        this.userActivityTracker = userActivityTracker;
+        this.verifiedTimer = MetricsConfig.latencyTimer(meterRegistry, "jwt.verification", "outcome", "verified");
+        this.invalidTimer = MetricsConfig.latencyTimer(meterRegistry, "jwt.verification", "outcome", "invalid");
+        this.expiredTimer = MetricsConfig.latencyTimer(meterRegistry, "jwt.verification", "outcome", "expired");
+        this.deactivatedTimer = MetricsConfig.latencyTimer(meterRegistry, "jwt.verification", "outcome", "deactivated");
+        this.roleChangedTimer = MetricsConfig.latencyTimer(meterRegistry, "jwt.verification", "outcome", "role_changed");
+    }
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -47,17 +74,40 @@ public class JwtFilter implements Filter {
 
         String jwt = jwtUtil.substringToken(bearerJwt);
 
+        long start = System.nanoTime();
+        boolean verified = false;
         try {
             // JWT 유효성 검사와 claims 추출
             Claims claims = jwtUtil.extractClaims(jwt);
             if (claims == null) {
+                record(invalidTimer, start);
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            long userId = Long.parseLong(claims.getSubject());
+
+            // 탈퇴한 유저의 토큰은 DB 조회 없이 메모리 목록으로 거절합니다.
+            if (userDeactivationRegistry.isDeactivated(userId)) {
+                record(deactivatedTimer, start);
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "탈퇴한 유저입니다.");
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
+            // 권한이 바뀌기 전에 발급된 토큰은 담긴 권한이 현재와 달라지므로 다시 로그인하도록 거절합니다.
+            UserRole changedRole = userRoleChangeRegistry.getChangedRole(userId);
+            if (changedRole != null && changedRole != userRole) {
+                record(roleChangedTimer, start);
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "권한이 변경되었습니다. 다시 로그인해주세요.");
+                return;
+            }
+
+            record(verifiedTimer, start);
+            verified = true;
+            userActivityTracker.touch(userId);
+
+            httpRequest.setAttribute("userId", userId);
             httpRequest.setAttribute("email", claims.get("email"));
             httpRequest.setAttribute("userRole", claims.get("userRole"));
 
@@ -73,20 +123,31 @@ public class JwtFilter implements Filter {
 
             chain.doFilter(request, response);
         } catch (SecurityException | MalformedJwtException e) {
+            record(invalidTimer, start);
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
+            record(expiredTimer, start);
             log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
+            record(invalidTimer, start);
             log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
         } catch (Exception e) {
+            // 검증을 통과한 뒤 하위 체인에서 난 예외는 검증 결과로 세지 않습니다.
+            if (!verified) {
+                record(invalidTimer, start);
+            }
             log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
         }
     }
 
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
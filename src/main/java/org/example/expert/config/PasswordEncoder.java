@@ -1,17 +1,99 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    private static final String HASH_PREFIX = "$2a$";
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    // 0 이면 기동 시 target-millis 에 맞춰 cost 를 정합니다.
+    @Value("${security.password.cost:0}")
+    private int configuredCost;
+    @Value("${security.password.target-millis:100}")
+    private long targetMillis = 100;
+    @Value("${security.password.min-cost:10}")
+    private int minCost = 10;
+    @Value("${security.password.max-cost:16}")
+    private int maxCost = 16;
+
+    private int cost = 10;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordEncoder(MeterRegistry meterRegistry) {
+        this.encodeTimer = MetricsConfig.latencyTimer(meterRegistry, "password.hash", "operation", "encode");
+        this.matchesTimer = MetricsConfig.latencyTimer(meterRegistry, "password.hash", "operation", "matches");
+    }
+
+    // bcrypt 는 cost 가 1 오를 때마다 두 배 느려지므로, min-cost 에서 한 번 재고 목표 시간에 맞는 cost 를 계산합니다.
+    @PostConstruct
+    public void calibrate() {
+        if (configuredCost > 0) {
+            cost = configuredCost;
+            log.info("비밀번호 해시 cost 를 설정값으로 사용합니다. cost={}", cost);
+            return;
+        }
+
+        hash(minCost);
+        long[] samples = new long[3];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            hash(minCost);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double millis = samples[1] / 1_000_000.0;
+
+        int steps = (int) Math.floor(Math.log(targetMillis / millis) / Math.log(2));
+        cost = Math.max(minCost, Math.min(maxCost, minCost + Math.max(steps, 0)));
+        log.info("비밀번호 해시 cost 보정 완료. cost={}, cost {} 측정값={}ms, 목표={}ms", cost, minCost, String.format("%.1f", millis), targetMillis);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        long start = System.nanoTime();
+        String encoded = BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return encoded;
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        matchesTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return result.verified;
     }
+
+    // 현재 cost 보다 낮거나 다른 버전으로 만든 해시면 다시 만들어야 합니다.
+    // 인스턴스마다 보정값이 달라도 해시가 계속 바뀌지 않도록 cost 가 높은 해시는 그대로 둡니다.
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || !encodedPassword.startsWith(HASH_PREFIX)) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private static void hash(int cost) {
+        BCrypt.withDefaults().hash(cost, CALIBRATION_PASSWORD.toCharArray());
+    }
 }
@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 리포지토리 메서드별 지연 시간
+// 메서드와 결과 상태별 타이머를 처음 호출될 때 한 번만 등록하고, 이후에는 조회와 record 만 합니다.
+public class RepositoryMetricsListener implements RepositoryMethodInvocationListener {
+
+    private static final State[] STATES = State.values();
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public RepositoryMetricsListener(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            meterRegistry = registry;
+        }
+
+        Timer[] byState = timers.computeIfAbsent(invocation.getMethod(), method -> new Timer[STATES.length]);
+        int state = invocation.getResult().getState().ordinal();
+        Timer timer = byState[state];
+        if (timer == null) {
+            timer = MetricsConfig.latencyTimer(registry, "repository.invocations",
+                    "repository", invocation.getRepositoryInterface().getSimpleName(),
+                    "method", invocation.getMethod().getName(),
+                    "state", STATES[state].name());
+            byState[state] = timer;
+        }
+        timer.record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -12,9 +13,12 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j(topic = "AuthService")
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,6 +27,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -30,7 +35,8 @@ public class AuthService {
             throw new InvalidRequestException("이메일을 입력하지 않았습니다.");
         }
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // 필터가 있을 수 있다고 답한 경우에만 조회해서, 중복 이메일에 비밀번호 해시 비용을 쓰지 않습니다.
+        if (emailBloomFilter.mightContain(signupRequest.getEmail()) && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -43,24 +49,52 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        // 동시에 같은 이메일로 가입하는 경우는 unique 제약으로 막습니다.
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        emailBloomFilter.add(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
+    // 비밀번호 검증 동안 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        if (!emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())) {
+            throw new InvalidRequestException("가입되지 않은 유저입니다.");
+        }
+
+        User user = userRepository.findByEmail(signinRequest.getEmail())
+                .filter(found -> !found.isDeactivated())
+                .orElseThrow(() -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 평문 비밀번호를 알고 있는 지금, cost 가 낮은 예전 해시를 새 cost 로 바꿔 둡니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            rehash(user, signinRequest.getPassword());
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
+
+    private void rehash(User user, String rawPassword) {
+        try {
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), passwordEncoder.encode(rawPassword));
+        } catch (RuntimeException e) {
+            // 해시 갱신은 다음 로그인에 다시 시도하면 되므로 로그인은 실패시키지 않습니다.
+            log.warn("비밀번호 해시 갱신 실패. userId={}", user.getId(), e);
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 가입된 이메일의 bloom filter. false 면 이 인스턴스가 읽어 온 범위에는 없는 이메일이고, true 면 DB 에서 확인해야 합니다.
+// 구축이 끝나기 전에는 항상 true 를 반환합니다.
+// 다른 인스턴스의 가입이나 늦게 커밋된 행은 주기적인 refresh 와 mightContainAfterCatchUp 의 증분 스캔으로 따라잡습니다.
+@Slf4j(topic = "EmailBloomFilter")
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilter {
+
+    private static final String SCAN_SQL = "SELECT id, email FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${auth.email-filter.expected-insertions:1000000}")
+    private long expectedInsertions = 1_000_000;
+    @Value("${auth.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+    @Value("${auth.email-filter.scan-batch-size:10000}")
+    private int scanBatchSize = 10000;
+    // IDENTITY id 는 커밋 순서와 다를 수 있어, 마지막으로 읽은 id 보다 이만큼 앞에서부터 다시 읽습니다.
+    @Value("${auth.email-filter.rescan-overlap:1000}")
+    private long rescanOverlap = 1000;
+    @Value("${auth.email-filter.catch-up-millis:1000}")
+    private long catchUpMillis = 1000;
+
+    private volatile AtomicLongArray bits;
+    private volatile int hashCount;
+    private volatile boolean ready;
+    private final AtomicLong lastScannedId = new AtomicLong();
+    private volatile long lastRefreshNanos;
+
+    // 기동을 늦추지 않도록 애플리케이션이 뜬 뒤 백그라운드에서 users 테이블을 id 순으로 나누어 읽습니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread builder = new Thread(this::rebuild, "email-bloom-filter-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public synchronized void rebuild() {
+        long bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        ready = false;
+        bits = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (bitCount + 63) / 64));
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        lastScannedId.set(0);
+
+        lastRefreshNanos = System.nanoTime();
+        long loaded = scanFrom(0);
+        ready = true;
+        log.info("이메일 bloom filter 구축 완료. emails={}, bits={}, hashes={}", loaded, (long) bits.length() * 64, hashCount);
+    }
+
+    // 다른 인스턴스에서 가입한 유저도 반영되도록 마지막으로 읽은 id 근처부터 주기적으로 읽어 옵니다.
+    // 겹치는 구간을 다시 읽으므로, 더 큰 id 보다 늦게 커밋된 행도 놓치지 않습니다.
+    @Scheduled(fixedDelayString = "${auth.email-filter.refresh-millis:5000}")
+    public synchronized void refresh() {
+        if (ready) {
+            lastRefreshNanos = System.nanoTime();
+            scanFrom(Math.max(0, lastScannedId.get() - rescanOverlap));
+        }
+    }
+
+    // 필터에 없다고 나오면 최근 가입이 아직 반영되지 않았을 수 있으므로 증분 스캔 후 다시 확인합니다.
+    // 스캔은 catch-up-millis 에 한 번으로 제한하므로, 없는 이메일이 몰려도 DB 부하는 일정합니다.
+    public boolean mightContainAfterCatchUp(String email) {
+        if (mightContain(email)) {
+            return true;
+        }
+        if (System.nanoTime() - lastRefreshNanos < catchUpMillis * 1_000_000) {
+            return false;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - lastRefreshNanos >= catchUpMillis * 1_000_000) {
+                refresh();
+            }
+        }
+        return mightContain(email);
+    }
+
+    public void add(String email) {
+        AtomicLongArray current = bits;
+        if (current == null || email == null) {
+            return;
+        }
+        long bitSize = (long) current.length() * 64;
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long value;
+            do {
+                value = current.get(word);
+                if ((value & mask) != 0) {
+                    break;
+                }
+            } while (!current.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    public boolean mightContain(String email) {
+        AtomicLongArray current = bits;
+        if (!ready || current == null) {
+            return true;
+        }
+        long bitSize = (long) current.length() * 64;
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+            if ((current.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private long scanFrom(long fromId) {
+        long loaded = 0;
+        long cursor = fromId;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(SCAN_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                    cursor, scanBatchSize);
+            for (Object[] row : rows) {
+                add((String) row[1]);
+                cursor = (Long) row[0];
+            }
+            lastScannedId.accumulateAndGet(cursor, Math::max);
+            loaded += rows.size();
+            if (rows.size() < scanBatchSize) {
+                return loaded;
+            }
+        }
+    }
+
+    // DB 의 이메일 비교가 대소문자를 구분하지 않을 수 있으므로 소문자로 맞춘 뒤 해시합니다.
+    private static long[] hash(String email) {
+        byte[] bytes = email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x84222325cbf29ce4L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 ^ (b & 0xff)) * 0x9e3779b97f4a7c15L;
+        }
+        return new long[]{mix(h1), mix(h2) | 1};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,19 +1,51 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.dto.response.CommentWriteBehindStatsResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.comment.service.CommentWriteBehindQueue;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final CommentWriteBehindQueue commentWriteBehindQueue;
 
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @PostMapping("/admin/comments/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(@Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        return ResponseEntity.ok(commentAdminService.deleteComments(commentBulkDeleteRequest.getCommentIds()));
+    }
+
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByUser(@PathVariable long userId) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByUser(userId));
+    }
+
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByTodo(
+            @PathVariable long todoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByTodo(todoId, from, to));
+    }
+
+    @GetMapping("/admin/comments/write-behind")
+    public ResponseEntity<CommentWriteBehindStatsResponse> getWriteBehindStats() {
+        return ResponseEntity.ok(commentWriteBehindQueue.getStats());
+    }
 }
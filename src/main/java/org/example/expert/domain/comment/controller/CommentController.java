@@ -1,15 +1,20 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,7 +22,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +36,57 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/comments/{commentId}/replies")
+    public ResponseEntity<CommentSaveResponse> saveReply(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @Valid @RequestBody CommentSaveRequest commentSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveReply(authUser, todoId, commentId, commentSaveRequest));
+    }
+
+    @GetMapping("/todos/{todoId}/comments/{commentId}/thread")
+    public ResponseEntity<CommentThreadResponse> getThread(
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getThread(todoId, commentId, cursor, size));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/comments/page")
+    public ResponseEntity<CommentPageResponse> getCommentPage(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentPage(todoId, cursor, size));
+    }
+
+    // 전체 댓글이 필요한 클라이언트용. 페이지 단위로 짧은 트랜잭션을 반복하며 한 줄에 하나씩 내려보냅니다.
+    @GetMapping("/todos/{todoId}/comments/stream")
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        StreamingResponseBody body = outputStream -> {
+            Long cursor = null;
+            boolean hasMore = true;
+            while (hasMore) {
+                CommentPageResponse page = commentService.getCommentPage(todoId, cursor, commentService.getMaxPageSize());
+                for (CommentResponse comment : page.getComments()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(comment));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                cursor = page.getNextCursor();
+                hasMore = page.isHasMore();
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
 }
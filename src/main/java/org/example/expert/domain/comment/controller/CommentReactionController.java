@@ -0,0 +1,33 @@
+package org.example.expert.domain.comment.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentReactionRequest;
+import org.example.expert.domain.comment.dto.response.CommentReactionResponse;
+import org.example.expert.domain.comment.service.CommentReactionService;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class CommentReactionController {
+
+    private final CommentReactionService commentReactionService;
+
+    @PostMapping("/todos/{todoId}/comments/{commentId}/reactions")
+    public ResponseEntity<CommentReactionResponse> react(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @Valid @RequestBody CommentReactionRequest commentReactionRequest
+    ) {
+        return ResponseEntity.ok(commentReactionService.react(authUser, todoId, commentId, commentReactionRequest));
+    }
+
+    @GetMapping("/todos/{todoId}/comments/{commentId}/reactions")
+    public ResponseEntity<CommentReactionResponse> getReactions(@PathVariable long todoId, @PathVariable long commentId) {
+        return ResponseEntity.ok(commentReactionService.getReactions(todoId, commentId));
+    }
+}
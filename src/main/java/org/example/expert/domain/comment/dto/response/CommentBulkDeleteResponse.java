@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentBulkDeleteResponse {
+
+    private final long deletedCount;
+    private final int chunkCount;
+
+    public CommentBulkDeleteResponse(long deletedCount, int chunkCount) {
+        this.deletedCount = deletedCount;
+        this.chunkCount = chunkCount;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentPageResponse {
+
+    private final List<CommentResponse> comments;
+    private final Long nextCursor;
+    private final boolean hasMore;
+
+    public CommentPageResponse(List<CommentResponse> comments, Long nextCursor, boolean hasMore) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
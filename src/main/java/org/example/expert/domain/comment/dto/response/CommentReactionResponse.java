@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.enums.ReactionType;
+
+import java.util.Map;
+
+@Getter
+public class CommentReactionResponse {
+
+    private final Long commentId;
+    private final Map<ReactionType, Long> counts;
+
+    public CommentReactionResponse(Long commentId, Map<ReactionType, Long> counts) {
+        this.commentId = commentId;
+        this.counts = counts;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+@Getter
+public class CommentReplyResponse {
+
+    private final Long id;
+    private final Long parentId;
+    private final int depth;
+    private final String contents;
+    private final UserResponse user;
+
+    public CommentReplyResponse(Long id, Long parentId, int depth, String contents, UserResponse user) {
+        this.id = id;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.contents = contents;
+        this.user = user;
+    }
+}
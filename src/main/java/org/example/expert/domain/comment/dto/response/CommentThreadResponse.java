@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentThreadResponse {
+
+    private final List<CommentReplyResponse> replies;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public CommentThreadResponse(List<CommentReplyResponse> replies, String nextCursor, boolean hasMore) {
+        this.replies = replies;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
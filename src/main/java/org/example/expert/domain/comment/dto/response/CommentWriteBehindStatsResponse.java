@@ -0,0 +1,35 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentWriteBehindStatsResponse {
+
+    private final boolean enabled;
+    private final int queueDepth;
+    private final long queueCapacity;
+    private final long enqueued;
+    private final long rejected;
+    private final long flushed;
+    private final long failed;
+    private final long flushes;
+    private final long lastFlushSize;
+    private final long lastFlushMicros;
+    private final long maxFlushMicros;
+
+    public CommentWriteBehindStatsResponse(boolean enabled, int queueDepth, long queueCapacity, long enqueued, long rejected,
+                                           long flushed, long failed, long flushes, long lastFlushSize,
+                                           long lastFlushMicros, long maxFlushMicros) {
+        this.enabled = enabled;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.enqueued = enqueued;
+        this.rejected = rejected;
+        this.flushed = flushed;
+        this.failed = failed;
+        this.flushes = flushes;
+        this.lastFlushSize = lastFlushSize;
+        this.lastFlushMicros = lastFlushMicros;
+        this.maxFlushMicros = maxFlushMicros;
+    }
+}
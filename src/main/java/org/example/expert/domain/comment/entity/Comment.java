@@ -4,15 +4,25 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id"),
+        @Index(name = "idx_comments_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_comments_todo_id_path", columnList = "todo_id, path")
+})
 public class Comment extends Timestamped {
 
+    // path 는 루트부터 자기 자신까지의 id 를 고정 길이 36진수 세그먼트로 이어 붙인 값입니다.
+    // 고정 길이라 문자열 정렬이 곧 스레드의 전위 순회 순서가 되고, 서브트리는 path 범위 하나로 조회됩니다.
+    public static final int MAX_DEPTH = 64;
+    private static final int SEGMENT_LENGTH = 8;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String contents;
@@ -25,13 +35,56 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "todo_id", nullable = false)
     private Todo todo;
 
+    private Long parentId;
+
+    // 루트 댓글은 path 를 저장하지 않습니다. (getThreadPath 참고)
+    @Column(length = SEGMENT_LENGTH * MAX_DEPTH)
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
     public Comment(String contents, User user, Todo todo) {
         this.contents = contents;
         this.user = user;
         this.todo = todo;
     }
 
+    public Comment(String contents, User user, Todo todo, Comment parent) {
+        this(contents, user, todo);
+        this.parentId = parent.getId();
+        this.depth = parent.getDepth() + 1;
+    }
+
     public void update(String contents) {
         this.contents = contents;
     }
+
+    // id 가 발급된 뒤에만 호출할 수 있습니다.
+    public void assignPath(String parentPath) {
+        this.path = parentPath + segment(id);
+    }
+
+    public String getThreadPath() {
+        return threadPath(id, path);
+    }
+
+    public static String threadPath(long id, String path) {
+        return path != null ? path : segment(id);
+    }
+
+    // 같은 깊이에서 바로 다음 형제의 path. 서브트리는 [path, 상한) 범위에 모두 들어갑니다.
+    public static String subtreeUpperBound(String path) {
+        int lastSegmentStart = path.length() - SEGMENT_LENGTH;
+        long lastId = Long.parseLong(path.substring(lastSegmentStart), Character.MAX_RADIX);
+        return path.substring(0, lastSegmentStart) + segment(lastId + 1);
+    }
+
+    private static String segment(long id) {
+        String encoded = Long.toString(id, Character.MAX_RADIX);
+        if (encoded.length() > SEGMENT_LENGTH) {
+            throw new ServerException("댓글 경로를 만들 수 없습니다.");
+        }
+        return "0".repeat(SEGMENT_LENGTH - encoded.length()) + encoded;
+    }
 }
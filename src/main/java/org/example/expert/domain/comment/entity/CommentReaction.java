@@ -0,0 +1,35 @@
+package org.example.expert.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.comment.enums.ReactionType;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comment_reactions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_reactions_comment_id_reaction_type", columnNames = {"comment_id", "reaction_type"})
+})
+public class CommentReaction {
+
+    // 반응 수는 CommentReactionCounter 가 모아 둔 증가분을 주기적으로 더해서만 갱신합니다.
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long commentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReactionType reactionType;
+
+    @Column(nullable = false)
+    private long count;
+
+    public CommentReaction(Long commentId, ReactionType reactionType, long count) {
+        this.commentId = commentId;
+        this.reactionType = reactionType;
+        this.count = count;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.comment.enums.ReactionType;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comment_reaction_users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_reaction_users_comment_id_user_id_reaction_type",
+                columnNames = {"comment_id", "user_id", "reaction_type"})
+}, indexes = {
+        @Index(name = "idx_comment_reaction_users_user_id_id", columnList = "user_id, id")
+})
+public class CommentReactionUser {
+
+    // 유저별 반응 수. 탈퇴한 유저의 반응을 comment_reactions 합계에서 되돌릴 때 쓰입니다.
+    // comment_reactions 와 같은 flush 에서 함께 갱신됩니다.
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long commentId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReactionType reactionType;
+
+    @Column(nullable = false)
+    private long count;
+}
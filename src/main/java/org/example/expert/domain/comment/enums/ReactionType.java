@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum ReactionType {
+    LIKE, LOVE, LAUGH, WOW, SAD, ANGRY;
+
+    public static ReactionType of(String type) {
+        return Arrays.stream(ReactionType.values())
+                .filter(r -> r.name().equalsIgnoreCase(type))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 ReactionType"));
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.comment.repository;
+
+public interface CommentDeleteTarget {
+
+    Long getId();
+
+    Long getTodoId();
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.entity.CommentReaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CommentReactionRepository extends JpaRepository<CommentReaction, Long> {
+
+    List<CommentReaction> findAllByCommentId(Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM CommentReaction r WHERE r.commentId IN :commentIds")
+    int deleteAllByCommentIdIn(@Param("commentIds") List<Long> commentIds);
+}
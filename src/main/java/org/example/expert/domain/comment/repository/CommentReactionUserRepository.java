@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.entity.CommentReactionUser;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CommentReactionUserRepository extends JpaRepository<CommentReactionUser, Long> {
+
+    @Query("SELECT r FROM CommentReactionUser r WHERE r.userId = :userId ORDER BY r.id ASC")
+    List<CommentReactionUser> findChunkByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CommentReactionUser r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM CommentReactionUser r WHERE r.commentId IN :commentIds")
+    int deleteAllByCommentIdIn(@Param("commentIds") List<Long> commentIds);
+}
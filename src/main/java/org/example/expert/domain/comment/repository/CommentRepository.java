@@ -1,14 +1,84 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
+    // 목록에는 루트 댓글만 담습니다. 답글은 getThread 로 조회합니다.
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId AND c.parentId IS NULL")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.parentId IS NULL AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<Comment> findPageByTodoIdWithUser(@Param("todoId") Long todoId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :commentIds")
+    List<Comment> findAllByIdInWithUser(@Param("commentIds") List<Long> commentIds);
+
+    @Query("SELECT COUNT(c) > 0 FROM Comment c WHERE c.id = :commentId AND c.todo.id = :todoId")
+    boolean existsByIdAndTodoId(@Param("commentId") Long commentId, @Param("todoId") Long todoId);
+
+    // (todo_id, path) 인덱스의 범위 스캔 하나로 서브트리를 전위 순회 순서대로 읽습니다.
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.path > :after AND c.path < :upper " +
+            "ORDER BY c.path ASC")
+    List<Comment> findSubtreeWithUser(
+            @Param("todoId") Long todoId,
+            @Param("after") String after,
+            @Param("upper") String upper,
+            Pageable pageable
+    );
+
+    @Query("SELECT c.id AS id, c.todo.id AS todoId FROM Comment c WHERE c.id IN :commentIds")
+    List<CommentDeleteTarget> findDeleteTargetsByIds(@Param("commentIds") List<Long> commentIds);
+
+    @Query("SELECT c.id AS id, c.todo.id AS todoId, c.path AS path FROM Comment c WHERE c.id IN :commentIds ORDER BY c.id ASC")
+    List<CommentSubtreeRoot> findSubtreeRootsByIds(@Param("commentIds") List<Long> commentIds);
+
+    @Query("SELECT c.id AS id, c.todo.id AS todoId, c.path AS path FROM Comment c " +
+            "WHERE c.user.id = :userId AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<CommentSubtreeRoot> findSubtreeRootsByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 서브트리 범위는 (todo_id, path) 인덱스로 좁히고, 청크 커서는 id 로 이어 갑니다.
+    @Query("SELECT c.id AS id, c.todo.id AS todoId FROM Comment c " +
+            "WHERE c.todo.id = :todoId AND c.path > :after AND c.path < :upper AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<CommentDeleteTarget> findDeleteTargetsInSubtree(
+            @Param("todoId") Long todoId,
+            @Param("after") String after,
+            @Param("upper") String upper,
+            @Param("cursor") Long cursor,
+            Pageable pageable
+    );
+
+    @Query("SELECT c.id AS id, c.todo.id AS todoId, c.path AS path FROM Comment c " +
+            "WHERE c.todo.id = :todoId AND c.id > :cursor " +
+            "AND c.createdAt >= :from AND c.createdAt < :to " +
+            "ORDER BY c.id ASC")
+    List<CommentSubtreeRoot> findSubtreeRootsByTodoId(
+            @Param("todoId") Long todoId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursor") Long cursor,
+            Pageable pageable
+    );
+
+    @Query("SELECT c.id AS id, c.todo.id AS todoId FROM Comment c " +
+            "WHERE c.todo.id IN :todoIds AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<CommentDeleteTarget> findDeleteTargetsByTodoIds(@Param("todoIds") List<Long> todoIds, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdIn(@Param("commentIds") List<Long> commentIds);
 }
@@ -0,0 +1,10 @@
+package org.example.expert.domain.comment.repository;
+
+public interface CommentSubtreeRoot {
+
+    Long getId();
+
+    Long getTodoId();
+
+    String getPath();
+}
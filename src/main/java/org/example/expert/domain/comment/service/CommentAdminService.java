@@ -1,18 +1,203 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.entity.CommentReactionUser;
+import org.example.expert.domain.comment.repository.CommentDeleteTarget;
+import org.example.expert.domain.comment.repository.CommentReactionRepository;
+import org.example.expert.domain.comment.repository.CommentReactionUserRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSubtreeRoot;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+@Slf4j(topic = "CommentAdminService")
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final CommentReactionUserRepository commentReactionUserRepository;
+    private final CommentReactionCounter commentReactionCounter;
+    private final ChangeLogService changeLogService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${comment.admin.delete-chunk-size:500}")
+    private int chunkSize = 500;
 
-    @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        deleteComments(List.of(commentId));
+    }
+
+    // 지정한 댓글과 그 아래에 달린 답글을 함께 지웁니다.
+    public CommentBulkDeleteResponse deleteComments(List<Long> commentIds) {
+        List<Long> distinctIds = commentIds.stream().filter(Objects::nonNull).distinct().toList();
+
+        long deletedCount = 0;
+        int chunkCount = 0;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            List<CommentSubtreeRoot> roots = transactionTemplate.execute(status ->
+                    commentRepository.findSubtreeRootsByIds(chunk));
+
+            CommentBulkDeleteResponse deleted = deleteSubtrees(roots);
+            deletedCount += deleted.getDeletedCount();
+            chunkCount += deleted.getChunkCount();
+            log.info("댓글 일괄 삭제 진행 중. 대상: id 목록 / 청크: {} / 삭제: {}/{}", chunkCount, deletedCount, distinctIds.size());
+        }
+        return new CommentBulkDeleteResponse(deletedCount, chunkCount);
+    }
+
+    // 유저의 댓글과 그 아래에 달린 답글을 함께 지웁니다. 다른 유저가 단 답글도 서브트리째 지웁니다.
+    public CommentBulkDeleteResponse deleteCommentsByUser(long userId) {
+        return deleteSubtreesByCursor("유저 " + userId, cursor ->
+                commentRepository.findSubtreeRootsByUserId(userId, cursor, PageRequest.of(0, chunkSize)));
+    }
+
+    // 유저가 남긴 반응을 청크마다 합계에서 빼고 지웁니다. 이 인스턴스의 메모리에 남은 증가분부터 DB 에 반영합니다.
+    public long deleteReactionsByUser(long userId) {
+        commentReactionCounter.flush();
+
+        long deletedCount = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<CommentReactionUser> reactions = commentReactionUserRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize));
+                if (reactions.isEmpty()) {
+                    return 0;
+                }
+                commentReactionCounter.subtract(reactions);
+                commentReactionUserRepository.deleteAllByIdIn(reactions.stream().map(CommentReactionUser::getId).toList());
+                return reactions.size();
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            deletedCount += deleted;
+            log.info("반응 삭제 진행 중. 대상: 유저 {} / 삭제: {}", userId, deletedCount);
+        }
+        return deletedCount;
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByTodo(long todoId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidRequestException("삭제 기간이 올바르지 않습니다.");
+        }
+        return deleteSubtreesByCursor("할일 " + todoId, cursor ->
+                commentRepository.findSubtreeRootsByTodoId(todoId, from, to, cursor, PageRequest.of(0, chunkSize)));
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByTodos(List<Long> todoIds) {
+        return deleteByCursor("할일 " + todoIds.size() + "개", cursor ->
+                commentRepository.findDeleteTargetsByTodoIds(todoIds, cursor, PageRequest.of(0, chunkSize)));
+    }
+
+    // 부모가 지워진 답글은 parent_id 로만 남아 스레드 조회로 닿을 수 없으므로, 삭제 대상마다 서브트리째 지웁니다.
+    private CommentBulkDeleteResponse deleteSubtreesByCursor(String target, LongFunction<List<CommentSubtreeRoot>> rootFinder) {
+        long cursor = 0;
+        long deletedCount = 0;
+        int chunkCount = 0;
+        while (true) {
+            long currentCursor = cursor;
+            List<CommentSubtreeRoot> roots = transactionTemplate.execute(status -> rootFinder.apply(currentCursor));
+            if (roots.isEmpty()) {
+                break;
+            }
+
+            CommentBulkDeleteResponse deleted = deleteSubtrees(roots);
+            deletedCount += deleted.getDeletedCount();
+            chunkCount += deleted.getChunkCount();
+            cursor = roots.get(roots.size() - 1).getId();
+            log.info("댓글 일괄 삭제 진행 중. 대상: {} / 청크: {} / 삭제: {}", target, chunkCount, deletedCount);
+
+            if (roots.size() < chunkSize) {
+                break;
+            }
+        }
+        return new CommentBulkDeleteResponse(deletedCount, chunkCount);
+    }
+
+    // 각 루트의 [path, 상한) 범위에 든 답글을 먼저 지우고 루트를 마지막에 지웁니다.
+    // 앞선 서브트리에 포함되어 이미 지워진 댓글은 다시 조회되지 않으므로 중복으로 세지 않습니다.
+    private CommentBulkDeleteResponse deleteSubtrees(List<CommentSubtreeRoot> roots) {
+        if (roots.isEmpty()) {
+            return new CommentBulkDeleteResponse(0, 0);
+        }
+
+        long deletedCount = 0;
+        int chunkCount = 0;
+        for (CommentSubtreeRoot root : roots) {
+            String rootPath = Comment.threadPath(root.getId(), root.getPath());
+            String upper = Comment.subtreeUpperBound(rootPath);
+            CommentBulkDeleteResponse replies = deleteByCursor("댓글 " + root.getId() + " 의 답글", replyCursor ->
+                    commentRepository.findDeleteTargetsInSubtree(root.getTodoId(), rootPath, upper, replyCursor, PageRequest.of(0, chunkSize)));
+            deletedCount += replies.getDeletedCount();
+            chunkCount += replies.getChunkCount();
+        }
+
+        List<Long> rootIds = roots.stream().map(CommentSubtreeRoot::getId).toList();
+        List<CommentDeleteTarget> targets = transactionTemplate.execute(status ->
+                deleteTargets(commentRepository.findDeleteTargetsByIds(rootIds)));
+        deletedCount += targets.size();
+        chunkCount++;
+        return new CommentBulkDeleteResponse(deletedCount, chunkCount);
+    }
+
+    // 청크마다 짧은 트랜잭션으로 id 만 조회한 뒤 bulk delete 합니다. 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+    private CommentBulkDeleteResponse deleteByCursor(String target, LongFunction<List<CommentDeleteTarget>> finder) {
+        long cursor = 0;
+        long deletedCount = 0;
+        int chunkCount = 0;
+        while (true) {
+            long currentCursor = cursor;
+            List<CommentDeleteTarget> targets = transactionTemplate.execute(status ->
+                    deleteTargets(finder.apply(currentCursor)));
+
+            if (targets.isEmpty()) {
+                break;
+            }
+            deletedCount += targets.size();
+            chunkCount++;
+            cursor = targets.get(targets.size() - 1).getId();
+            log.info("댓글 일괄 삭제 진행 중. 대상: {} / 청크: {} / 삭제: {}", target, chunkCount, deletedCount);
+
+            if (targets.size() < chunkSize) {
+                break;
+            }
+        }
+        return new CommentBulkDeleteResponse(deletedCount, chunkCount);
+    }
+
+    private List<CommentDeleteTarget> deleteTargets(List<CommentDeleteTarget> targets) {
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        List<Long> commentIds = new ArrayList<>(targets.size());
+        List<Long> todoIds = new ArrayList<>(targets.size());
+        for (CommentDeleteTarget target : targets) {
+            commentIds.add(target.getId());
+            todoIds.add(target.getTodoId());
+        }
+
+        commentRepository.deleteAllByIdIn(commentIds);
+        commentReactionRepository.deleteAllByCommentIdIn(commentIds);
+        commentReactionUserRepository.deleteAllByCommentIdIn(commentIds);
+        changeLogService.recordAll(ChangeEntityType.COMMENT, commentIds, todoIds, ChangeType.DELETED);
+        return targets;
     }
 }
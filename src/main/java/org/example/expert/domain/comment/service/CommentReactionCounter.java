@@ -0,0 +1,215 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.CommentReactionUser;
+import org.example.expert.domain.comment.enums.ReactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 댓글 반응 수를 메모리의 LongAdder 에 모았다가 주기적으로 증가분만 DB 에 더합니다.
+// 인기 댓글에 반응이 몰려도 요청마다 같은 행을 잠그지 않으며, 장애 시에는 마지막 flush 이후의 증가분만 유실됩니다.
+@Slf4j(topic = "CommentReactionCounter")
+@Component
+@RequiredArgsConstructor
+public class CommentReactionCounter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE comment_reactions SET count = count + ? WHERE comment_id = ? AND reaction_type = ?";
+    // 이미 삭제된 댓글의 반응은 다시 만들지 않습니다.
+    private static final String INSERT_SQL =
+            "INSERT INTO comment_reactions (comment_id, reaction_type, count) SELECT id, ?, ? FROM comments WHERE id = ?";
+    private static final String UPDATE_USER_SQL =
+            "UPDATE comment_reaction_users SET count = count + ? WHERE comment_id = ? AND user_id = ? AND reaction_type = ?";
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO comment_reaction_users (comment_id, user_id, reaction_type, count) SELECT id, ?, ?, ? FROM comments WHERE id = ?";
+    private static final String SUBTRACT_SQL =
+            "UPDATE comment_reactions SET count = count - ? WHERE comment_id = ? AND reaction_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<ReactionKey, PendingCount> pending = new ConcurrentHashMap<>();
+    // 유저별 증가분. 탈퇴한 유저의 반응을 합계에서 되돌릴 수 있도록 같은 flush 에서 comment_reaction_users 에 더합니다.
+    private final ConcurrentHashMap<UserReactionKey, PendingCount> pendingByUser = new ConcurrentHashMap<>();
+
+    public void increment(long commentId, long userId, ReactionType type) {
+        add(pendingByUser, new UserReactionKey(commentId, userId, type));
+        add(pending, new ReactionKey(commentId, type));
+    }
+
+    private static <K> void add(ConcurrentHashMap<K, PendingCount> pending, K key) {
+        while (true) {
+            PendingCount count = pending.computeIfAbsent(key, k -> new PendingCount());
+            count.adder.increment();
+            if (!count.retired) {
+                return;
+            }
+            // flush 가 정리 중인 카운터에 더했다면 되돌리고 새 카운터에 다시 더합니다.
+            count.adder.decrement();
+            Thread.onSpinWait();
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분
+    public Map<ReactionType, Long> getPendingCounts(long commentId) {
+        Map<ReactionType, Long> counts = new EnumMap<>(ReactionType.class);
+        for (ReactionType type : ReactionType.values()) {
+            PendingCount count = pending.get(new ReactionKey(commentId, type));
+            if (count != null) {
+                long sum = count.adder.sum();
+                if (sum > 0) {
+                    counts.put(type, sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    public int getPendingSize() {
+        return pending.size() + pendingByUser.size();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${comment.reaction.flush-interval-millis:1000}")
+    public synchronized void flush() {
+        Snapshot<ReactionKey> totals = snapshot(pending);
+        Snapshot<UserReactionKey> byUser = snapshot(pendingByUser);
+        if (totals.keys.isEmpty() && byUser.keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                write(totals.keys, totals.deltas);
+                writeByUser(byUser.keys, byUser.deltas);
+            });
+        } catch (RuntimeException e) {
+            // 메모리의 증가분은 그대로 두고 다음 주기에 다시 반영합니다.
+            log.warn("댓글 반응 수 반영 실패. size={}", totals.keys.size(), e);
+            return;
+        }
+
+        // 커밋된 만큼만 차감하므로 조회 시 DB 값과 메모리 값을 더해도 누락되지 않습니다.
+        totals.committed();
+        byUser.committed();
+    }
+
+    // 유저별 반응 수를 합계에서 뺍니다. 호출한 쪽의 트랜잭션 안에서 실행됩니다.
+    public void subtract(List<CommentReactionUser> reactions) {
+        if (reactions.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(reactions.size());
+        for (CommentReactionUser reaction : reactions) {
+            args.add(new Object[]{reaction.getCount(), reaction.getCommentId(), reaction.getReactionType().name()});
+        }
+        jdbcTemplate.batchUpdate(SUBTRACT_SQL, args);
+    }
+
+    private static <K> Snapshot<K> snapshot(ConcurrentHashMap<K, PendingCount> pending) {
+        Snapshot<K> snapshot = new Snapshot<>();
+        for (Map.Entry<K, PendingCount> entry : pending.entrySet()) {
+            long delta = entry.getValue().adder.sum();
+            if (delta != 0) {
+                snapshot.keys.add(entry.getKey());
+                snapshot.counts.add(entry.getValue());
+                snapshot.deltas.add(delta);
+            } else {
+                retire(pending, entry.getKey(), entry.getValue());
+            }
+        }
+        return snapshot;
+    }
+
+    private void writeByUser(List<UserReactionKey> keys, List<Long> deltas) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object[]> updateArgs = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            UserReactionKey key = keys.get(i);
+            updateArgs.add(new Object[]{deltas.get(i), key.commentId(), key.userId(), key.type().name()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_USER_SQL, updateArgs);
+
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                UserReactionKey key = keys.get(i);
+                insertArgs.add(new Object[]{key.userId(), key.type().name(), deltas.get(i), key.commentId()});
+            }
+        }
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER_SQL, insertArgs);
+        }
+    }
+
+    private void write(List<ReactionKey> keys, List<Long> deltas) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object[]> updateArgs = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            updateArgs.add(new Object[]{deltas.get(i), keys.get(i).commentId(), keys.get(i).type().name()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updateArgs);
+
+        // 행별 갱신 건수로 아직 행이 없는 반응을 골라 insert 합니다.
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                insertArgs.add(new Object[]{keys.get(i).type().name(), deltas.get(i), keys.get(i).commentId()});
+            }
+        }
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, insertArgs);
+        }
+    }
+
+    // 한 주기 동안 쓰이지 않은 카운터는 맵에서 제거합니다.
+    // retired 를 먼저 쓰고 합계를 다시 읽으므로, 그 사이에 더해진 값은 increment 쪽에서 되돌리거나 여기서 발견됩니다.
+    private static <K> void retire(ConcurrentHashMap<K, PendingCount> pending, K key, PendingCount count) {
+        count.retired = true;
+        if (count.adder.sum() == 0) {
+            pending.remove(key, count);
+        } else {
+            count.retired = false;
+        }
+    }
+
+    private record ReactionKey(long commentId, ReactionType type) {
+    }
+
+    private record UserReactionKey(long commentId, long userId, ReactionType type) {
+    }
+
+    private static class Snapshot<K> {
+
+        private final List<K> keys = new ArrayList<>();
+        private final List<PendingCount> counts = new ArrayList<>();
+        private final List<Long> deltas = new ArrayList<>();
+
+        private void committed() {
+            for (int i = 0; i < counts.size(); i++) {
+                counts.get(i).adder.add(-deltas.get(i));
+            }
+        }
+    }
+
+    private static class PendingCount {
+
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired;
+    }
+}
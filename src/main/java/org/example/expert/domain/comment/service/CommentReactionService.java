@@ -0,0 +1,68 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentReactionRequest;
+import org.example.expert.domain.comment.dto.response.CommentReactionResponse;
+import org.example.expert.domain.comment.entity.CommentReaction;
+import org.example.expert.domain.comment.enums.ReactionType;
+import org.example.expert.domain.comment.repository.CommentReactionRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentReactionService {
+
+    private final CommentRepository commentRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final CommentReactionCounter commentReactionCounter;
+    private final TodoMembershipIndex todoMembershipIndex;
+
+    // 반응 수는 메모리 카운터에만 더하고, DB 반영은 CommentReactionCounter 의 flush 가 모아서 처리합니다.
+    public CommentReactionResponse react(AuthUser authUser, long todoId, long commentId, CommentReactionRequest commentReactionRequest) {
+        ReactionType type = ReactionType.of(commentReactionRequest.getType());
+
+        TodoMembershipIndex.Membership membership = todoMembershipIndex.get(todoId);
+        if (membership == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        if (!membership.isManager(authUser.getId())) {
+            throw new InvalidRequestException("해당 할일의 담당자가 아닙니다.");
+        }
+
+        checkComment(todoId, commentId);
+        commentReactionCounter.increment(commentId, authUser.getId(), type);
+
+        return new CommentReactionResponse(commentId, getCounts(commentId));
+    }
+
+    public CommentReactionResponse getReactions(long todoId, long commentId) {
+        checkComment(todoId, commentId);
+        return new CommentReactionResponse(commentId, getCounts(commentId));
+    }
+
+    // 저장된 합계에 아직 flush 되지 않은 증가분을 더합니다.
+    private Map<ReactionType, Long> getCounts(long commentId) {
+        Map<ReactionType, Long> counts = new EnumMap<>(ReactionType.class);
+        for (CommentReaction reaction : commentReactionRepository.findAllByCommentId(commentId)) {
+            counts.put(reaction.getReactionType(), reaction.getCount());
+        }
+        commentReactionCounter.getPendingCounts(commentId).forEach((type, pending) -> counts.merge(type, pending, Long::sum));
+        return counts;
+    }
+
+    private void checkComment(long todoId, long commentId) {
+        if (!commentRepository.existsByIdAndTodoId(commentId, todoId)) {
+            throw new InvalidRequestException("Comment not found");
+        }
+    }
+}
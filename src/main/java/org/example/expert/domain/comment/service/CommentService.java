@@ -2,19 +2,29 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
+import org.example.expert.domain.comment.dto.response.CommentReplyResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,40 +36,159 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoMembershipIndex todoMembershipIndex;
+    private final ChangeLogService changeLogService;
+    private final CommentWriteBehindQueue commentWriteBehindQueue;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    @Value("${comment.page.max-size:100}")
+    private int maxPageSize = 100;
+
+    // write-behind 모드에서 배치 커밋을 기다리는 동안 커넥션을 잡고 있지 않도록, 저장은 필요한 구간에서만 트랜잭션을 엽니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
-
-        List<Manager> managers = todo.getManagers();
-        boolean isManager = false;
-        for (Manager manager : managers) {
-            if(manager.getUser().getId().equals(user.getId())) {
-                isManager = true;
-            }
+        checkManager(todoId, user);
+
+        Long commentId;
+        if (commentWriteBehindQueue.isEnabled()) {
+            commentId = commentWriteBehindQueue.submit(todoId, user.getId(), commentSaveRequest.getContents());
+        } else {
+            commentId = transactionTemplate.execute(status -> {
+                Todo todo = todoRepository.getReferenceById(todoId);
+
+                Comment newComment = new Comment(
+                        commentSaveRequest.getContents(),
+                        user,
+                        todo
+                );
+
+                Comment savedComment = commentRepository.save(newComment);
+
+                changeLogService.record(ChangeEntityType.COMMENT, savedComment.getId(), todoId, ChangeType.CREATED);
+                return savedComment.getId();
+            });
         }
 
-        if(!isManager) {
-            throw new InvalidRequestException("해당 할일의 담당자가 아닙니다.");
+        return new CommentSaveResponse(
+                commentId,
+                commentSaveRequest.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
+    }
+
+    @Transactional
+    public CommentSaveResponse saveReply(AuthUser authUser, long todoId, long commentId, CommentSaveRequest commentSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        checkManager(todoId, user);
+
+        Comment parent = findComment(todoId, commentId);
+        if (parent.getDepth() + 1 >= Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("더 이상 답글을 달 수 없습니다.");
         }
 
-        Comment newComment = new Comment(
+        Comment reply = new Comment(
                 commentSaveRequest.getContents(),
                 user,
-                todo
+                todoRepository.getReferenceById(todoId),
+                parent
         );
 
-        Comment savedComment = commentRepository.save(newComment);
+        // path 에는 자기 id 가 들어가므로 insert 로 id 를 받은 뒤 채웁니다.
+        Comment savedReply = commentRepository.save(reply);
+        savedReply.assignPath(parent.getThreadPath());
+
+        changeLogService.record(ChangeEntityType.COMMENT, savedReply.getId(), todoId, ChangeType.CREATED);
 
         return new CommentSaveResponse(
-                savedComment.getId(),
-                savedComment.getContents(),
+                savedReply.getId(),
+                savedReply.getContents(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
 
+    public CommentThreadResponse getThread(long todoId, long commentId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+
+        String rootPath = findComment(todoId, commentId).getThreadPath();
+        // 서브트리 밖의 커서가 들어오더라도 범위를 벗어나지 않도록 시작점을 보정합니다.
+        String after = cursor != null && cursor.compareTo(rootPath) > 0 ? cursor : rootPath;
+
+        List<Comment> replyList = commentRepository.findSubtreeWithUser(
+                todoId,
+                after,
+                Comment.subtreeUpperBound(rootPath),
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasMore = replyList.size() > pageSize;
+        List<Comment> page = replyList.subList(0, Math.min(replyList.size(), pageSize));
+        List<CommentReplyResponse> dtoList = new ArrayList<>(page.size());
+        for (Comment reply : page) {
+            User user = reply.getUser();
+            dtoList.add(new CommentReplyResponse(
+                    reply.getId(),
+                    reply.getParentId(),
+                    reply.getDepth(),
+                    reply.getContents(),
+                    new UserResponse(user.getId(), user.getEmail())
+            ));
+        }
+
+        String nextCursor = page.isEmpty() ? cursor : page.get(page.size() - 1).getPath();
+        return new CommentThreadResponse(dtoList, nextCursor, hasMore);
+    }
+
+    public CommentPageResponse getCommentPage(long todoId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+
+        // (todo_id, id) 인덱스를 타는 keyset 페이지네이션. 다음 페이지 존재 여부 확인을 위해 하나 더 조회합니다.
+        List<Comment> commentList = commentRepository.findPageByTodoIdWithUser(
+                todoId,
+                cursor == null ? 0L : cursor,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasMore = commentList.size() > pageSize;
+        List<CommentResponse> dtoList = new ArrayList<>(Math.min(commentList.size(), pageSize));
+        for (Comment comment : commentList.subList(0, Math.min(commentList.size(), pageSize))) {
+            User user = comment.getUser();
+            dtoList.add(new CommentResponse(
+                    comment.getId(),
+                    comment.getContents(),
+                    new UserResponse(user.getId(), user.getEmail())
+            ));
+        }
+
+        Long nextCursor = dtoList.isEmpty() ? cursor : dtoList.get(dtoList.size() - 1).getId();
+        return new CommentPageResponse(dtoList, nextCursor, hasMore);
+    }
+
+    // 담당자 여부는 멤버십 인덱스에서 확인합니다. 캐시에 없을 때만 작성자/담당자 id 를 조회합니다.
+    private void checkManager(long todoId, User user) {
+        TodoMembershipIndex.Membership membership = todoMembershipIndex.get(todoId);
+        if (membership == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        if (!membership.isManager(user.getId())) {
+            throw new InvalidRequestException("해당 할일의 담당자가 아닙니다.");
+        }
+    }
+
+    private Comment findComment(long todoId, long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        if (!comment.getTodo().getId().equals(todoId)) {
+            throw new InvalidRequestException("Comment not found");
+        }
+        return comment;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
     public List<CommentResponse> getComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
@@ -0,0 +1,309 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentWriteBehindStatsResponse;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 댓글 쓰기를 모아서 한 번의 배치 insert 로 커밋하는 write-behind 큐.
+// 할일 id 로 샤드를 고르고 샤드마다 writer 스레드 하나가 FIFO 로 처리하므로, 같은 할일의 댓글 순서는 유지됩니다.
+@Slf4j(topic = "CommentWriteBehindQueue")
+@Component
+@RequiredArgsConstructor
+public class CommentWriteBehindQueue {
+
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO comments (contents, user_id, todo_id, depth, created_at, modified_at) VALUES (?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeLogService changeLogService;
+
+    @Value("${comment.write-behind.enabled:false}")
+    private boolean enabled;
+    @Value("${comment.write-behind.shards:1}")
+    private int shards = 1;
+    @Value("${comment.write-behind.capacity:10000}")
+    private int capacity = 10000;
+    @Value("${comment.write-behind.batch-size:500}")
+    private int batchSize = 500;
+    @Value("${comment.write-behind.max-delay-millis:5}")
+    private long maxDelayMillis = 5;
+    @Value("${comment.write-behind.enqueue-timeout-millis:100}")
+    private long enqueueTimeoutMillis = 100;
+    @Value("${comment.write-behind.flush-timeout-millis:5000}")
+    private long flushTimeoutMillis = 5000;
+
+    private final List<BlockingQueue<PendingComment>> queues = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final AtomicLong lastFlushSize = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int shard = 0; shard < Math.max(shards, 1); shard++) {
+            BlockingQueue<PendingComment> queue = new ArrayBlockingQueue<>(capacity);
+            Thread writer = new Thread(() -> runWriter(queue), "comment-write-behind-" + shard);
+            writer.setDaemon(true);
+            queues.add(queue);
+            writers.add(writer);
+            writer.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread writer : writers) {
+            writer.join(flushTimeoutMillis);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 배치가 커밋될 때까지 기다린 뒤 저장된 댓글 id 를 반환합니다.
+    public long submit(long todoId, long userId, String contents) {
+        if (!running) {
+            rejected.increment();
+            throw new ServerException("댓글 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        PendingComment pending = new PendingComment(todoId, userId, contents);
+        BlockingQueue<PendingComment> queue = queues.get((int) Math.floorMod(todoId, (long) queues.size()));
+
+        try {
+            if (!queue.offer(pending, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new ServerException("댓글 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            enqueued.increment();
+            return pending.result.get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 저장이 중단되었습니다.");
+        } catch (TimeoutException e) {
+            // writer 가 아직 가져가지 않았다면 취소하므로, 실패를 받은 호출자가 재시도해도 중복 저장되지 않습니다.
+            if (pending.claim()) {
+                queue.remove(pending);
+                rejected.increment();
+                throw new ServerException("댓글 저장이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            // 이미 저장 중인 배치에 들어갔다면 커밋 결과를 그대로 돌려줍니다.
+            return awaitResult(pending);
+        } catch (ExecutionException e) {
+            throw toServerException(e);
+        }
+    }
+
+    private long awaitResult(PendingComment pending) {
+        try {
+            return pending.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 저장이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw toServerException(e);
+        }
+    }
+
+    private RuntimeException toServerException(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new ServerException("댓글 저장에 실패했습니다.");
+    }
+
+    public CommentWriteBehindStatsResponse getStats() {
+        int depth = 0;
+        for (BlockingQueue<PendingComment> queue : queues) {
+            depth += queue.size();
+        }
+        return new CommentWriteBehindStatsResponse(
+                enabled,
+                depth,
+                (long) capacity * queues.size(),
+                enqueued.sum(),
+                rejected.sum(),
+                flushed.sum(),
+                failed.sum(),
+                flushes.sum(),
+                lastFlushSize.get(),
+                TimeUnit.NANOSECONDS.toMicros(lastFlushNanos.get()),
+                TimeUnit.NANOSECONDS.toMicros(maxFlushNanos.get())
+        );
+    }
+
+    private void runWriter(BlockingQueue<PendingComment> queue) {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - batch.size());
+
+                // 배치가 덜 찼다면 max-delay 동안만 더 모읍니다.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingComment> batch) {
+        // 시간 초과로 호출자가 취소한 댓글은 저장하지 않습니다.
+        batch.removeIf(pending -> !pending.claim());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insert(batch));
+            // 호출자가 결과를 받은 시점에는 통계에도 반영되어 있도록 먼저 집계합니다.
+            flushed.add(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            // 한 건 때문에 배치 전체가 실패했을 수 있으므로 한 건씩 다시 시도합니다.
+            log.warn("댓글 배치 저장 실패, 건별로 재시도합니다. size={}", batch.size(), e);
+            for (PendingComment pending : batch) {
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insert(List.of(pending)));
+                    flushed.increment();
+                    pending.result.complete(ids.get(0));
+                } catch (RuntimeException single) {
+                    failed.increment();
+                    pending.result.completeExceptionally(new ServerException("댓글 저장에 실패했습니다."));
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        flushes.increment();
+        lastFlushSize.set(batch.size());
+        lastFlushNanos.set(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private List<Long> insert(List<PendingComment> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_COMMENT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingComment pending = batch.get(i);
+                        ps.setString(1, pending.contents);
+                        ps.setLong(2, pending.userId);
+                        ps.setLong(3, pending.todoId);
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != batch.size()) {
+            throw new ServerException("생성된 댓글 id 를 확인할 수 없습니다.");
+        }
+
+        List<Long> todoIds = new ArrayList<>(batch.size());
+        for (PendingComment pending : batch) {
+            todoIds.add(pending.todoId);
+        }
+        changeLogService.recordAll(ChangeEntityType.COMMENT, ids, todoIds, ChangeType.CREATED);
+
+        return ids;
+    }
+
+    static class PendingComment {
+
+        private final long todoId;
+        private final long userId;
+        private final String contents;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        // writer 의 저장과 호출자의 취소 중 먼저 가져간 쪽만 진행합니다.
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        PendingComment(long todoId, long userId, String contents) {
+            this.todoId = todoId;
+            this.userId = userId;
+            this.contents = contents;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
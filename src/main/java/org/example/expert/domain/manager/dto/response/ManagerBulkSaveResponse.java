@@ -0,0 +1,22 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final List<ManagerSaveResponse> managers;
+    private final List<Long> existingUserIds;
+    private final List<Long> missingUserIds;
+    // 일정 작성자 본인처럼 담당자로 등록할 수 없는 유저
+    private final List<Long> rejectedUserIds;
+
+    public ManagerBulkSaveResponse(List<ManagerSaveResponse> managers, List<Long> existingUserIds, List<Long> missingUserIds, List<Long> rejectedUserIds) {
+        this.managers = managers;
+        this.existingUserIds = existingUserIds;
+        this.missingUserIds = missingUserIds;
+        this.rejectedUserIds = rejectedUserIds;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.manager.repository;
+
+public interface ManagerAssignment {
+
+    Long getId();
+
+    Long getUserId();
+}
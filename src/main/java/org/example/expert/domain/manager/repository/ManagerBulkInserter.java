@@ -0,0 +1,59 @@
+package org.example.expert.domain.manager.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// (todo_id, user_id) 유니크 인덱스에 기대어 이미 있는 담당자는 건너뛰는 배치 insert.
+// 반환값은 행별로 이번 호출에서 실제로 insert 되었는지 여부입니다.
+@Repository
+@RequiredArgsConstructor
+public class ManagerBulkInserter {
+
+    private static final String MYSQL_SQL =
+            "INSERT IGNORE INTO managers (todo_id, user_id) VALUES (?, ?)";
+    private static final String POSTGRESQL_SQL =
+            "INSERT INTO managers (todo_id, user_id) VALUES (?, ?) ON CONFLICT (todo_id, user_id) DO NOTHING";
+    // H2 등 충돌 무시 구문이 없는 DB 는 MERGE 로 대신합니다. 동시에 같은 행을 넣으면 DuplicateKeyException 이 날 수 있습니다.
+    private static final String MERGE_SQL =
+            "MERGE INTO managers m USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT))) s (todo_id, user_id) " +
+            "ON m.todo_id = s.todo_id AND m.user_id = s.user_id " +
+            "WHEN NOT MATCHED THEN INSERT (todo_id, user_id) VALUES (s.todo_id, s.user_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private String insertSql;
+
+    @PostConstruct
+    public void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if ("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)) {
+            insertSql = MYSQL_SQL;
+        } else if ("PostgreSQL".equalsIgnoreCase(product)) {
+            insertSql = POSTGRESQL_SQL;
+        } else {
+            insertSql = MERGE_SQL;
+        }
+    }
+
+    // MySQL 은 rewriteBatchedStatements 를 켜면 행별 건수를 돌려주지 않으므로 꺼진 상태(기본값)를 전제로 합니다.
+    public boolean[] insertIgnoringDuplicates(long todoId, List<Long> userIds) {
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            args.add(new Object[]{todoId, userId});
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(insertSql, args);
+
+        boolean[] inserted = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] > 0;
+        }
+        return inserted;
+    }
+}
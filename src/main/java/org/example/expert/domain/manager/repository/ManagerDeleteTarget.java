@@ -0,0 +1,8 @@
+package org.example.expert.domain.manager.repository;
+
+public interface ManagerDeleteTarget {
+
+    Long getId();
+
+    Long getTodoId();
+}
@@ -1,13 +1,47 @@
 package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.id IN :managerIds")
+    List<Manager> findAllByIdInWithUser(@Param("managerIds") List<Long> managerIds);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findUserIdsByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.id AS id, m.user.id AS userId FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<ManagerAssignment> findAssignments(@Param("todoId") Long todoId, @Param("userIds") List<Long> userIds);
+
+    @Query("SELECT m.todo.id FROM Manager m WHERE m.id = :managerId")
+    Optional<Long> findTodoIdById(@Param("managerId") Long managerId);
+
+    @Query("SELECT m.id AS id, m.todo.id AS todoId FROM Manager m " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY m.id ASC")
+    List<ManagerDeleteTarget> findDeleteTargetsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id IN :managerIds")
+    int deleteAllByIdIn(@Param("managerIds") List<Long> managerIds);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") List<Long> todoIds);
+
+    // 일정 작성자 확인과 일정 소속 확인을 WHERE 절에서 함께 처리합니다.
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT t.id FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteOwnedManager(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("userId") Long userId);
 }
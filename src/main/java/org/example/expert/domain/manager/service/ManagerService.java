@@ -5,41 +5,60 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerAssignment;
+import org.example.expert.domain.manager.repository.ManagerBulkInserter;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ManagerService {
 
+    private static final int MAX_BULK_INSERT_ATTEMPTS = 3;
+
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final JwtUtil jwtUtil;
+    private final ChangeLogService changeLogService;
+    private final TodoMembershipIndex todoMembershipIndex;
+    private final ManagerBulkInserter managerBulkInserter;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        TodoMembershipIndex.Membership membership = todoMembershipIndex.get(todoId);
+        if (membership == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!membership.isOwner(user.getId())) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
@@ -50,8 +69,21 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        if (membership.isManager(managerUser.getId())) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
+        Manager newManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
+        Manager savedManagerUser;
+        try {
+            savedManagerUser = managerRepository.save(newManagerUser);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 담당자를 등록한 경우 (todo_id, user_id) 유니크 인덱스에서 걸립니다.
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
+        changeLogService.record(ChangeEntityType.MANAGER, savedManagerUser.getId(), todoId, ChangeType.CREATED);
+        todoMembershipIndex.invalidateAfterCommit(todoId);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -59,6 +91,104 @@ public class ManagerService {
         );
     }
 
+    // 유저는 한 번에 조회하고, 담당자는 유니크 인덱스에 충돌하는 행을 건너뛰는 배치 insert 한 번으로 등록합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        TodoMembershipIndex.Membership membership = todoMembershipIndex.get(todoId);
+        if (membership == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        if (!membership.isOwner(authUser.getId())) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        List<Long> requestedUserIds = managerBulkSaveRequest.getManagerUserIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // 단건 등록과 마찬가지로 일정 작성자는 본인을 담당자로 등록할 수 없습니다.
+        List<Long> userIds = new ArrayList<>(requestedUserIds.size());
+        List<Long> rejectedUserIds = new ArrayList<>();
+        for (Long userId : requestedUserIds) {
+            if (membership.isOwner(userId)) {
+                rejectedUserIds.add(userId);
+            } else {
+                userIds.add(userId);
+            }
+        }
+
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+
+        List<Long> candidateUserIds = new ArrayList<>(users.size());
+        List<Long> missingUserIds = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (users.containsKey(userId)) {
+                candidateUserIds.add(userId);
+            } else {
+                missingUserIds.add(userId);
+            }
+        }
+
+        if (candidateUserIds.isEmpty()) {
+            return new ManagerBulkSaveResponse(List.of(), List.of(), missingUserIds, rejectedUserIds);
+        }
+        // 동시 요청끼리 같은 순서로 인덱스 잠금을 잡도록 정렬해서 교착을 피합니다.
+        Collections.sort(candidateUserIds);
+
+        // 충돌 무시 구문이 없는 DB 에서 동시 요청과 부딪히면 트랜잭션을 통째로 다시 시도합니다.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertManagers(todoId, candidateUserIds, users, missingUserIds, rejectedUserIds));
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_BULK_INSERT_ATTEMPTS) {
+                    throw new ServerException("담당자 등록 요청이 충돌했습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+        }
+    }
+
+    private ManagerBulkSaveResponse insertManagers(long todoId, List<Long> candidateUserIds, Map<Long, User> users, List<Long> missingUserIds, List<Long> rejectedUserIds) {
+        boolean[] inserted = managerBulkInserter.insertIgnoringDuplicates(todoId, candidateUserIds);
+
+        List<Long> addedUserIds = new ArrayList<>();
+        List<Long> existingUserIds = new ArrayList<>();
+        for (int i = 0; i < candidateUserIds.size(); i++) {
+            if (inserted[i]) {
+                addedUserIds.add(candidateUserIds.get(i));
+            } else {
+                existingUserIds.add(candidateUserIds.get(i));
+            }
+        }
+
+        if (addedUserIds.isEmpty()) {
+            return new ManagerBulkSaveResponse(List.of(), existingUserIds, missingUserIds, rejectedUserIds);
+        }
+
+        Map<Long, Long> managerIds = new HashMap<>();
+        for (ManagerAssignment assignment : managerRepository.findAssignments(todoId, addedUserIds)) {
+            managerIds.put(assignment.getUserId(), assignment.getId());
+        }
+
+        List<ManagerSaveResponse> dtoList = new ArrayList<>(addedUserIds.size());
+        List<Long> changedIds = new ArrayList<>(addedUserIds.size());
+        for (Long userId : addedUserIds) {
+            User user = users.get(userId);
+            Long managerId = managerIds.get(userId);
+            dtoList.add(new ManagerSaveResponse(managerId, new UserResponse(user.getId(), user.getEmail())));
+            changedIds.add(managerId);
+        }
+
+        changeLogService.recordAll(ChangeEntityType.MANAGER, changedIds, Collections.nCopies(changedIds.size(), todoId), ChangeType.CREATED);
+        todoMembershipIndex.invalidateAfterCommit(todoId);
+
+        return new ManagerBulkSaveResponse(dtoList, existingUserIds, missingUserIds, rejectedUserIds);
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -76,27 +206,31 @@ public class ManagerService {
         return dtoList;
     }
 
+    // 조건부 delete 한 번으로 처리하고, 삭제된 행이 없을 때만 원인을 조회해서 기존 에러 메시지로 돌려줍니다.
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
-        long userId = authUser.getId();
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        int deleted = managerRepository.deleteOwnedManager(managerId, todoId, authUser.getId());
+        if (deleted == 0) {
+            throw deleteFailure(authUser.getId(), todoId, managerId);
+        }
 
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        changeLogService.record(ChangeEntityType.MANAGER, managerId, todoId, ChangeType.DELETED);
+        todoMembershipIndex.invalidateAfterCommit(todoId);
+    }
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+    private InvalidRequestException deleteFailure(long userId, long todoId, long managerId) {
+        TodoMembershipIndex.Membership membership = todoMembershipIndex.get(todoId);
+        if (membership == null) {
+            return new InvalidRequestException("Todo not found");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+        if (!membership.isOwner(userId)) {
+            return new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        managerRepository.delete(manager);
+        if (managerRepository.findTodoIdById(managerId).isEmpty()) {
+            return new InvalidRequestException("Manager not found");
+        }
+        return new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
     }
 }
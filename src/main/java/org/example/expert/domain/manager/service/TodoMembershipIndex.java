@@ -0,0 +1,102 @@
+package org.example.expert.domain.manager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+// 할일 id -> (작성자 id, 담당자 id 목록) 프로세스 로컬 인덱스.
+// 권한 확인마다 Todo/User 엔티티를 읽지 않도록 처음 조회할 때 채우고, 담당자 변경이 커밋되면 비웁니다.
+// 커밋 시 무효화는 이 인스턴스에만 적용되므로, 다른 인스턴스에서 회수된 권한은 ttl 이 지나면 DB 에서 다시 읽어 반영합니다.
+@Component
+@RequiredArgsConstructor
+public class TodoMembershipIndex {
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+
+    @Value("${todo.membership-index.max-entries:10000}")
+    private int maxEntries = 10000;
+    @Value("${todo.membership-index.ttl-millis:5000}")
+    private long ttlMillis = 5000;
+
+    // 조회는 잠금 없이 동시에 처리되고, 같은 키의 동시 miss 는 한 번의 조회로 합쳐집니다.
+    // 조회 중인 키를 무효화하면 조회가 끝난 뒤 지우므로, 무효화 이전에 읽은 값이 남지 않습니다.
+    private Cache<Long, Membership> entries;
+
+    @PostConstruct
+    public void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    // 할일이 존재하지 않으면 null 을 반환합니다. 없는 할일은 캐시하지 않습니다.
+    public Membership get(long todoId) {
+        return entries.get(todoId, this::load);
+    }
+
+    public void invalidate(long todoId) {
+        entries.invalidate(todoId);
+    }
+
+    // 트랜잭션 안이라면 커밋된 뒤에 무효화합니다. 롤백되면 인덱스는 그대로 유효합니다.
+    public void invalidateAfterCommit(long todoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(todoId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(todoId);
+            }
+        });
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private Membership load(long todoId) {
+        Optional<Long> ownerId = todoRepository.findOwnerIdById(todoId);
+        if (ownerId.isEmpty()) {
+            return null;
+        }
+        List<Long> managerUserIds = managerRepository.findUserIdsByTodoId(todoId);
+        return new Membership(ownerId.get(), managerUserIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public static class Membership {
+
+        private final long ownerId;
+        private final long[] managerUserIds;
+
+        public Membership(long ownerId, long[] managerUserIds) {
+            this.ownerId = ownerId;
+            this.managerUserIds = managerUserIds.clone();
+            Arrays.sort(this.managerUserIds);
+        }
+
+        public boolean isOwner(long userId) {
+            return ownerId == userId;
+        }
+
+        public boolean isManager(long userId) {
+            return Arrays.binarySearch(managerUserIds, userId) >= 0;
+        }
+    }
+}
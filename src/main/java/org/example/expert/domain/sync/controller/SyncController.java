@@ -0,0 +1,24 @@
+package org.example.expert.domain.sync.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.sync.dto.response.SyncResponse;
+import org.example.expert.domain.sync.service.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping("/todos/changes")
+    public ResponseEntity<SyncResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(syncService.getChanges(since, size));
+    }
+}
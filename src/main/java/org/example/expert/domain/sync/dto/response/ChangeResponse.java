@@ -0,0 +1,28 @@
+package org.example.expert.domain.sync.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ChangeResponse {
+
+    private final ChangeEntityType entityType;
+    private final Long entityId;
+    private final Long todoId;
+    private final ChangeType changeType;
+    private final LocalDateTime changedAt;
+    // 생성/수정이면 현재 엔티티(TodoResponse, CommentReplyResponse, ManagerResponse), 삭제면 null 입니다.
+    private final Object entity;
+
+    public ChangeResponse(ChangeEntityType entityType, Long entityId, Long todoId, ChangeType changeType, LocalDateTime changedAt, Object entity) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.todoId = todoId;
+        this.changeType = changeType;
+        this.changedAt = changedAt;
+        this.entity = entity;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.sync.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SyncResponse {
+
+    private final List<ChangeResponse> changes;
+    private final String nextToken;
+    private final boolean hasMore;
+
+    public SyncResponse(List<ChangeResponse> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+}
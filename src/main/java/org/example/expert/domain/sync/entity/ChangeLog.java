@@ -0,0 +1,45 @@
+package org.example.expert.domain.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "change_logs")
+public class ChangeLog {
+
+    // 동기화 토큰은 id 기준으로 발급되므로 append-only 로만 사용합니다.
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeEntityType entityType;
+    @Column(nullable = false)
+    private Long entityId;
+    private Long todoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType changeType;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeLog(ChangeEntityType entityType, Long entityId, Long todoId, ChangeType changeType) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.todoId = todoId;
+        this.changeType = changeType;
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.expert.domain.sync.enums;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.sync.repository;
+
+import org.example.expert.domain.sync.entity.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    @Query("SELECT c FROM ChangeLog c WHERE c.id > :lastId ORDER BY c.id ASC")
+    List<ChangeLog> findAllAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    Optional<ChangeLog> findFirstByCreatedAtLessThanEqualOrderByIdDesc(LocalDateTime createdAt);
+}
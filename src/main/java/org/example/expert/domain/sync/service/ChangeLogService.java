@@ -0,0 +1,60 @@
+package org.example.expert.domain.sync.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.sync.entity.ChangeLog;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.repository.ChangeLogRepository;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeLogService {
+
+    private static final String INSERT_CHANGE_LOG_SQL =
+            "INSERT INTO change_logs (entity_type, entity_id, todo_id, change_type, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 변경 내역은 반드시 데이터 변경과 같은 트랜잭션 안에서 기록되어야 합니다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, Long entityId, Long todoId, ChangeType changeType) {
+        changeLogRepository.save(new ChangeLog(entityType, entityId, todoId, changeType));
+    }
+
+    // 대량 변경용. entityIds 와 todoIds 는 같은 순서로 짝을 이룹니다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(ChangeEntityType entityType, List<Long> entityIds, List<Long> todoIds, ChangeType changeType) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_LOG_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, entityType.name());
+                ps.setLong(2, entityIds.get(i));
+                ps.setObject(3, todoIds.get(i));
+                ps.setString(4, changeType.name());
+                ps.setTimestamp(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entityIds.size();
+            }
+        });
+    }
+}
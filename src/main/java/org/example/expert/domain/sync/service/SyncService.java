@@ -0,0 +1,171 @@
+package org.example.expert.domain.sync.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentReplyResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.sync.dto.response.ChangeResponse;
+import org.example.expert.domain.sync.dto.response.SyncResponse;
+import org.example.expert.domain.sync.entity.ChangeLog;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.repository.ChangeLogRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final String TOKEN_PREFIX = "v1:";
+    private static final int MAX_SIZE = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+
+    // 커밋 순서와 id 순서가 어긋날 수 있으므로, 이 시간보다 최근에 기록된 변경은 다음 동기화로 미룹니다.
+    @Value("${sync.stable-lag-millis:5000}")
+    private long stableLagMillis;
+
+    public SyncResponse getChanges(String since, int size) {
+        LocalDateTime horizon = LocalDateTime.now().minusNanos(stableLagMillis * 1_000_000);
+
+        // 토큰이 없으면 현재 시점의 토큰만 발급합니다. 클라이언트는 토큰을 먼저 받은 뒤 전체 목록을 내려받아야 합니다.
+        if (since == null || since.isBlank()) {
+            long headId = changeLogRepository.findFirstByCreatedAtLessThanEqualOrderByIdDesc(horizon)
+                    .map(ChangeLog::getId)
+                    .orElse(0L);
+            return new SyncResponse(List.of(), encodeToken(headId), false);
+        }
+
+        long lastId = decodeToken(since);
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+
+        List<ChangeLog> changeLogs = changeLogRepository.findAllAfter(lastId, PageRequest.of(0, limit + 1));
+
+        // 같은 엔티티가 여러 번 바뀌었다면 마지막 변경만 내려줍니다.
+        Map<String, ChangeLog> changes = new LinkedHashMap<>();
+        long nextId = lastId;
+        boolean hasMore = false;
+        int count = 0;
+        for (ChangeLog changeLog : changeLogs) {
+            if (changeLog.getCreatedAt() != null && changeLog.getCreatedAt().isAfter(horizon)) {
+                break;
+            }
+            if (count == limit) {
+                hasMore = true;
+                break;
+            }
+            String key = changeLog.getEntityType() + ":" + changeLog.getEntityId();
+            changes.remove(key);
+            changes.put(key, changeLog);
+            nextId = changeLog.getId();
+            count++;
+        }
+
+        Map<ChangeEntityType, Map<Long, Object>> entities = loadEntities(changes.values());
+        List<ChangeResponse> dtoList = new ArrayList<>(changes.size());
+        for (ChangeLog changeLog : changes.values()) {
+            dtoList.add(new ChangeResponse(
+                    changeLog.getEntityType(),
+                    changeLog.getEntityId(),
+                    changeLog.getTodoId(),
+                    changeLog.getChangeType(),
+                    changeLog.getCreatedAt(),
+                    entities.get(changeLog.getEntityType()).get(changeLog.getEntityId())
+            ));
+        }
+
+        return new SyncResponse(dtoList, encodeToken(nextId), hasMore);
+    }
+
+    // 생성/수정된 엔티티를 종류별 IN 조회 한 번씩으로 읽습니다. 삭제는 id 만 내려주므로 조회하지 않습니다.
+    // 그 사이 삭제되어 찾지 못한 엔티티는 null 로 내려가고, 삭제 변경은 이후 동기화에서 전달됩니다.
+    private Map<ChangeEntityType, Map<Long, Object>> loadEntities(Collection<ChangeLog> changeLogs) {
+        Map<ChangeEntityType, List<Long>> ids = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeEntityType entityType : ChangeEntityType.values()) {
+            ids.put(entityType, new ArrayList<>());
+        }
+        for (ChangeLog changeLog : changeLogs) {
+            if (changeLog.getChangeType() != ChangeType.DELETED) {
+                ids.get(changeLog.getEntityType()).add(changeLog.getEntityId());
+            }
+        }
+
+        Map<ChangeEntityType, Map<Long, Object>> entities = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeEntityType entityType : ChangeEntityType.values()) {
+            entities.put(entityType, new HashMap<>());
+        }
+        if (!ids.get(ChangeEntityType.TODO).isEmpty()) {
+            for (Todo todo : todoRepository.findAllByIdInWithUser(ids.get(ChangeEntityType.TODO))) {
+                entities.get(ChangeEntityType.TODO).put(todo.getId(), TodoResponse.from(todo));
+            }
+        }
+        if (!ids.get(ChangeEntityType.COMMENT).isEmpty()) {
+            for (Comment comment : commentRepository.findAllByIdInWithUser(ids.get(ChangeEntityType.COMMENT))) {
+                User user = comment.getUser();
+                entities.get(ChangeEntityType.COMMENT).put(comment.getId(), new CommentReplyResponse(
+                        comment.getId(),
+                        comment.getParentId(),
+                        comment.getDepth(),
+                        comment.getContents(),
+                        new UserResponse(user.getId(), user.getEmail())
+                ));
+            }
+        }
+        if (!ids.get(ChangeEntityType.MANAGER).isEmpty()) {
+            for (Manager manager : managerRepository.findAllByIdInWithUser(ids.get(ChangeEntityType.MANAGER))) {
+                User user = manager.getUser();
+                entities.get(ChangeEntityType.MANAGER).put(manager.getId(),
+                        new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail())));
+            }
+        }
+        return entities;
+    }
+
+    private String encodeToken(long changeLogId) {
+        String raw = TOKEN_PREFIX + changeLogId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeToken(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(TOKEN_PREFIX)) {
+                throw new InvalidRequestException("유효하지 않은 동기화 토큰입니다.");
+            }
+            long changeLogId = Long.parseLong(raw.substring(TOKEN_PREFIX.length()));
+            if (changeLogId < 0) {
+                throw new InvalidRequestException("유효하지 않은 동기화 토큰입니다.");
+            }
+            return changeLogId;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 동기화 토큰입니다.");
+        }
+    }
+}
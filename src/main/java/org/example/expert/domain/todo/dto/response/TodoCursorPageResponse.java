@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorPageResponse {
+
+    private final List<TodoResponse> todos;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public TodoCursorPageResponse(List<TodoResponse> todos, String nextCursor, boolean hasMore) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
@@ -4,9 +4,12 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -19,5 +22,35 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id IN :todoIds")
+    List<Todo> findAllByIdInWithUser(@Param("todoIds") List<Long> todoIds);
+
     int countById(Long todoId);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.user.id = :userId ORDER BY t.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int deleteAllByIdIn(@Param("todoIds") List<Long> todoIds);
+
+    // managers(user_id, todo_id) 인덱스로 담당 일정을 찾고, 작성자는 같은 쿼리에서 함께 가져옵니다.
+    @Query("SELECT t FROM Manager m JOIN m.todo t JOIN FETCH t.user " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findManagedByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Manager m JOIN m.todo t JOIN FETCH t.user " +
+            "WHERE m.user.id = :userId " +
+            "AND (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :todoId)) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findManagedByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("todoId") Long todoId,
+            Pageable pageable
+    );
 }
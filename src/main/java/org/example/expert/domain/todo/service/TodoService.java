@@ -4,26 +4,46 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final String CURSOR_PREFIX = "v1:";
+    private static final char CURSOR_DELIMITER = '/';
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final ChangeLogService changeLogService;
+
+    @Value("${todo.page.max-size:100}")
+    private int maxPageSize = 100;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -39,6 +59,11 @@ public class TodoService {
         );
         Todo savedTodo = todoRepository.save(newTodo);
 
+        changeLogService.record(ChangeEntityType.TODO, savedTodo.getId(), savedTodo.getId(), ChangeType.CREATED);
+        for (Manager manager : savedTodo.getManagers()) {
+            changeLogService.record(ChangeEntityType.MANAGER, manager.getId(), savedTodo.getId(), ChangeType.CREATED);
+        }
+
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
@@ -53,31 +78,61 @@ public class TodoService {
 
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todos.map(TodoResponse::from);
     }
 
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        return TodoResponse.from(todo);
+    }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+    // (modifiedAt, id) 기준 keyset 페이지네이션. 다음 페이지 존재 여부 확인을 위해 하나 더 조회합니다.
+    public TodoCursorPageResponse getManagedTodos(AuthUser authUser, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<Todo> todoList;
+        if (cursor == null) {
+            todoList = todoRepository.findManagedByUserId(authUser.getId(), pageable);
+        } else {
+            ManagedTodoCursor decoded = decodeCursor(cursor);
+            todoList = todoRepository.findManagedByUserIdAfter(authUser.getId(), decoded.modifiedAt(), decoded.todoId(), pageable);
+        }
+
+        boolean hasMore = todoList.size() > pageSize;
+        List<Todo> page = todoList.subList(0, Math.min(todoList.size(), pageSize));
+        List<TodoResponse> dtoList = new ArrayList<>(page.size());
+        for (Todo todo : page) {
+            dtoList.add(TodoResponse.from(todo));
+        }
+
+        String nextCursor = page.isEmpty() ? cursor : encodeCursor(page.get(page.size() - 1));
+        return new TodoCursorPageResponse(dtoList, nextCursor, hasMore);
+    }
+
+    private String encodeCursor(Todo todo) {
+        String raw = CURSOR_PREFIX + todo.getModifiedAt() + CURSOR_DELIMITER + todo.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ManagedTodoCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+            if (!raw.startsWith(CURSOR_PREFIX) || delimiter < CURSOR_PREFIX.length()) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            return new ManagedTodoCursor(
+                    LocalDateTime.parse(raw.substring(CURSOR_PREFIX.length(), delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private record ManagedTodoCursor(LocalDateTime modifiedAt, long todoId) {
     }
 }
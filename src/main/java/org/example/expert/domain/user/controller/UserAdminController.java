@@ -1,21 +1,71 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserDeletionResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
+import org.example.expert.domain.user.dto.response.UserSummaryPageResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.user.service.UserDeletionService;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
+    private final UserDeletionService userDeletionService;
+
+    @GetMapping("/admin/users")
+    public ResponseEntity<UserSummaryPageResponse> searchUsers(
+            @RequestParam(required = false) String emailPrefix,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userAdminService.searchUsers(emailPrefix, cursor, size));
+    }
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @PostMapping("/admin/users/bulk-role-change")
+    public ResponseEntity<UserRoleBulkChangeResponse> changeUserRoles(@Valid @RequestBody UserRoleBulkChangeRequest userRoleBulkChangeRequest) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(
+                userRoleBulkChangeRequest.getUserIds(),
+                userRoleBulkChangeRequest.getRole()
+        ));
+    }
+
+    @GetMapping("/admin/users/{userId}/deletion")
+    public ResponseEntity<UserDeletionResponse> getDeletion(@PathVariable long userId) {
+        return ResponseEntity.ok(userDeletionService.getDeletion(userId));
+    }
+
+    @GetMapping("/admin/users/cache")
+    public ResponseEntity<UserCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(userAdminService.getCacheStats());
+    }
+
+    // 본문을 그대로 스트림으로 넘겨 파일 전체를 메모리에 올리지 않습니다.
+    @PostMapping(value = "/admin/users/import", consumes = "text/csv")
+    public ResponseEntity<UserImportResponse> importUsersFromCsv(InputStream body) {
+        return ResponseEntity.ok(userImportService.importUsers(body, UserImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/admin/users/import", consumes = "application/x-ndjson")
+    public ResponseEntity<UserImportResponse> importUsersFromNdjson(InputStream body) {
+        return ResponseEntity.ok(userImportService.importUsers(body, UserImportFormat.NDJSON));
+    }
 }
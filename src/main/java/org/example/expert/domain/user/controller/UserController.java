@@ -1,27 +1,52 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserDeleteRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
+import org.example.expert.domain.user.dto.response.UserDeletionResponse;
+import org.example.expert.domain.user.dto.response.UserLastSeenResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.service.UserDeletionService;
 import org.example.expert.domain.user.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final UserDeletionService userDeletionService;
 
     @GetMapping("/users/{userId}")
     public ResponseEntity<UserResponse> getUser(@PathVariable long userId) {
         return ResponseEntity.ok(userService.getUser(userId));
     }
 
+    @GetMapping("/users/{userId}/last-seen")
+    public ResponseEntity<UserLastSeenResponse> getLastSeen(@PathVariable long userId) {
+        return ResponseEntity.ok(userService.getLastSeen(userId));
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<UserBatchResponse> getUsers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsers(ids));
+    }
+
     @PutMapping("/users")
     public void changePassword(@Auth AuthUser authUser, @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
         userService.changePassword(authUser.getId(), userChangePasswordRequest);
     }
+
+    // 탈퇴 요청 즉시 토큰이 막히고, 작성한 데이터는 백그라운드에서 정리됩니다.
+    @DeleteMapping("/users/me")
+    public ResponseEntity<UserDeletionResponse> deleteUser(@Auth AuthUser authUser, @Valid @RequestBody UserDeleteRequest userDeleteRequest) {
+        return ResponseEntity.accepted().body(userDeletionService.requestDeletion(authUser.getId(), userDeleteRequest.getPassword()));
+    }
 }
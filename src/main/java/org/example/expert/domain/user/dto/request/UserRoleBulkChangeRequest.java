@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleBulkChangeRequest {
+
+    @NotEmpty
+    @Size(max = 10000)
+    private List<Long> userIds;
+    @NotBlank
+    private String role;
+}
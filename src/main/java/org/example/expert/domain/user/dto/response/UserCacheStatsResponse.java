@@ -0,0 +1,30 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserCacheStatsResponse {
+
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final double hitRate;
+    private final long loads;
+    private final long loadFailures;
+    private final long averageLoadMicros;
+    private final long evictions;
+    private final long evictedWeight;
+
+    public UserCacheStatsResponse(long size, long hits, long misses, double hitRate, long loads, long loadFailures,
+                                  long averageLoadMicros, long evictions, long evictedWeight) {
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.loads = loads;
+        this.loadFailures = loadFailures;
+        this.averageLoadMicros = averageLoadMicros;
+        this.evictions = evictions;
+        this.evictedWeight = evictedWeight;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserDeletionStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserDeletionResponse {
+
+    private final Long userId;
+    private final UserDeletionStatus status;
+    private final long deletedTodos;
+    private final long deletedComments;
+    private final long deletedManagers;
+    private final int chunkCount;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime completedAt;
+
+    public UserDeletionResponse(Long userId, UserDeletionStatus status, long deletedTodos, long deletedComments,
+                                long deletedManagers, int chunkCount, LocalDateTime requestedAt, LocalDateTime completedAt) {
+        this.userId = userId;
+        this.status = status;
+        this.deletedTodos = deletedTodos;
+        this.deletedComments = deletedComments;
+        this.deletedManagers = deletedManagers;
+        this.chunkCount = chunkCount;
+        this.requestedAt = requestedAt;
+        this.completedAt = completedAt;
+    }
+}
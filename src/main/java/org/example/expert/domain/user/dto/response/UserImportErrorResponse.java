@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserImportErrorResponse {
+
+    private final long line;
+    private final String email;
+    private final String message;
+
+    public UserImportErrorResponse(long line, String email, String message) {
+        this.line = line;
+        this.email = email;
+        this.message = message;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserImportResponse {
+
+    private final long importedCount;
+    private final long failedCount;
+    private final int chunkCount;
+    private final List<UserImportErrorResponse> errors;
+    private final boolean errorsTruncated;
+
+    public UserImportResponse(long importedCount, long failedCount, int chunkCount, List<UserImportErrorResponse> errors, boolean errorsTruncated) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.chunkCount = chunkCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserLastSeenResponse {
+
+    private final Long userId;
+    private final LocalDateTime lastSeenAt;
+
+    public UserLastSeenResponse(Long userId, LocalDateTime lastSeenAt) {
+        this.userId = userId;
+        this.lastSeenAt = lastSeenAt;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleBulkChangeResponse {
+
+    private final int requestedCount;
+    private final long updatedCount;
+    private final int chunkCount;
+
+    public UserRoleBulkChangeResponse(int requestedCount, long updatedCount, int chunkCount) {
+        this.requestedCount = requestedCount;
+        this.updatedCount = updatedCount;
+        this.chunkCount = chunkCount;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserSummaryPageResponse {
+
+    private final List<UserSummaryResponse> users;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public UserSummaryPageResponse(List<UserSummaryResponse> users, String nextCursor, boolean hasMore) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
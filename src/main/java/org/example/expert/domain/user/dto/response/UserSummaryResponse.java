@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserSummaryResponse {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+    private final LocalDateTime createdAt;
+
+    public UserSummaryResponse(Long id, String email, UserRole userRole, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+        this.createdAt = createdAt;
+    }
+}
@@ -7,19 +7,34 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+// email 유니크 인덱스는 중복 가입 방지와 함께 관리자 검색의 이메일 접두사 범위 조회에도 쓰입니다.
+// role_changed_at 인덱스는 UserRoleChangeRegistry 가 최근 권한 변경만 읽어 올 때 쓰입니다.
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_users_role_changed_at", columnList = "role_changed_at")
+})
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 탈퇴 요청 시각. 값이 있으면 비활성 유저이며, 정리 작업이 끝나면 행이 삭제됩니다.
+    private LocalDateTime deletedAt;
+    // 인증된 요청의 마지막 시각. UserActivityTracker 가 모아서 주기적으로 기록하므로 최대 flush 주기만큼 늦을 수 있습니다.
+    // 엔티티가 읽어 둔 값으로 tracker 가 기록한 더 최근 값을 덮어쓰지 않도록 JPA 는 이 컬럼을 쓰지 않습니다.
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastSeenAt;
+    // 마지막으로 권한이 바뀐 시각. 이 시각 이전에 발급된 토큰의 권한이 현재 권한과 다른지 확인하는 데 쓰입니다.
+    private LocalDateTime roleChangedAt;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -41,7 +56,16 @@ public class User extends Timestamped {
         this.password = password;
     }
 
-    public void updateRole(UserRole userRole) {
+    public void updateRole(UserRole userRole, LocalDateTime changedAt) {
         this.userRole = userRole;
+        this.roleChangedAt = changedAt;
+    }
+
+    public void deactivate(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public boolean isDeactivated() {
+        return deletedAt != null;
     }
 }
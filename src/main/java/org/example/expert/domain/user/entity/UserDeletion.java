@@ -0,0 +1,43 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.enums.UserDeletionStatus;
+
+import java.time.LocalDateTime;
+
+// 탈퇴한 유저의 데이터 정리 진행 상황. 유저 행이 삭제된 뒤에도 기록으로 남습니다.
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "user_deletions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_deletions_user_id", columnNames = "user_id")
+}, indexes = {
+        @Index(name = "idx_user_deletions_status", columnList = "status"),
+        @Index(name = "idx_user_deletions_requested_at", columnList = "requested_at")
+})
+public class UserDeletion {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UserDeletionStatus status;
+    private long deletedTodos;
+    private long deletedComments;
+    private long deletedManagers;
+    private int chunkCount;
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+    private LocalDateTime claimedAt;
+    private LocalDateTime completedAt;
+
+    public UserDeletion(Long userId, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.status = UserDeletionStatus.PENDING;
+        this.requestedAt = requestedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.domain.user.repository;
+
+import java.time.LocalDateTime;
+
+public interface DeactivatedUser {
+
+    Long getUserId();
+
+    LocalDateTime getRequestedAt();
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+public interface RoleChangedUser {
+
+    Long getUserId();
+
+    UserRole getUserRole();
+
+    LocalDateTime getRoleChangedAt();
+}
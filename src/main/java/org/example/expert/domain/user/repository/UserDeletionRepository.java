@@ -0,0 +1,65 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.UserDeletion;
+import org.example.expert.domain.user.enums.UserDeletionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserDeletionRepository extends JpaRepository<UserDeletion, Long> {
+
+    Optional<UserDeletion> findByUserId(Long userId);
+
+    // 대기 중이거나, 처리하던 인스턴스가 lease 안에 끝내지 못한 요청을 찾습니다.
+    @Query("SELECT d.id FROM UserDeletion d " +
+            "WHERE d.status = :pending OR (d.status = :inProgress AND d.claimedAt < :staleBefore) " +
+            "ORDER BY d.id ASC")
+    List<Long> findClaimableIds(
+            @Param("pending") UserDeletionStatus pending,
+            @Param("inProgress") UserDeletionStatus inProgress,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            Pageable pageable
+    );
+
+    // 여러 인스턴스가 같은 요청을 동시에 처리하지 않도록 조건부 UPDATE 로 선점합니다.
+    @Modifying
+    @Query("UPDATE UserDeletion d SET d.status = :inProgress, d.claimedAt = :now " +
+            "WHERE d.id = :deletionId " +
+            "AND (d.status = :pending OR (d.status = :inProgress AND d.claimedAt < :staleBefore))")
+    int claim(
+            @Param("deletionId") Long deletionId,
+            @Param("pending") UserDeletionStatus pending,
+            @Param("inProgress") UserDeletionStatus inProgress,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    @Modifying
+    @Query("UPDATE UserDeletion d SET d.deletedTodos = d.deletedTodos + :todos, " +
+            "d.deletedComments = d.deletedComments + :comments, " +
+            "d.deletedManagers = d.deletedManagers + :managers, " +
+            "d.chunkCount = d.chunkCount + :chunks, " +
+            "d.claimedAt = :now " +
+            "WHERE d.id = :deletionId")
+    int addProgress(
+            @Param("deletionId") Long deletionId,
+            @Param("todos") long todos,
+            @Param("comments") long comments,
+            @Param("managers") long managers,
+            @Param("chunks") int chunks,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("UPDATE UserDeletion d SET d.status = :completed, d.completedAt = :now WHERE d.id = :deletionId")
+    int complete(@Param("deletionId") Long deletionId, @Param("completed") UserDeletionStatus completed, @Param("now") LocalDateTime now);
+
+    @Query("SELECT d.userId AS userId, d.requestedAt AS requestedAt FROM UserDeletion d WHERE d.requestedAt >= :since")
+    List<DeactivatedUser> findRequestedSince(@Param("since") LocalDateTime since);
+}
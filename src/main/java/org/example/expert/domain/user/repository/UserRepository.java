@@ -1,11 +1,56 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // email 유니크 인덱스를 접두사 범위로 읽고, 마지막으로 본 email 이후부터 이어서 조회합니다.
+    @Query("SELECT u.id AS id, u.email AS email, u.userRole AS userRole, u.createdAt AS createdAt FROM User u " +
+            "WHERE u.email LIKE :prefix ESCAPE '\\' AND u.email > :afterEmail " +
+            "ORDER BY u.email")
+    List<UserSummary> findSummariesByEmailPrefix(
+            @Param("prefix") String prefix,
+            @Param("afterEmail") String afterEmail,
+            Pageable pageable
+    );
+
+    @Query("SELECT u.id AS id, u.lastSeenAt AS lastSeenAt FROM User u WHERE u.id = :userId")
+    Optional<UserLastSeen> findLastSeenById(@Param("userId") Long userId);
+
+    // 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않도록 기존 해시가 같을 때만 바꿉니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") long userId, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
+
+    // 엔티티를 읽지 않고 바꾸므로 auditing 대신 modifiedAt 을 직접 넣고, 이미 같은 권한인 행은 건드리지 않습니다.
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :userRole, u.modifiedAt = :modifiedAt, u.roleChangedAt = :modifiedAt " +
+            "WHERE u.id IN :userIds AND u.userRole <> :userRole")
+    int updateRoles(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("userRole") UserRole userRole,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    @Query("SELECT u.id AS userId, u.userRole AS userRole, u.roleChangedAt AS roleChangedAt FROM User u " +
+            "WHERE u.roleChangedAt >= :since")
+    List<RoleChangedUser> findRoleChangedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+public interface UserSummary {
+
+    Long getId();
+
+    String getEmail();
+
+    UserRole getUserRole();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 유저별 마지막 활동 시각을 메모리에 모았다가 flush 주기마다 배치 UPDATE 한 번으로 기록합니다.
+// 요청마다 쓰지 않으므로 같은 유저의 요청이 몇 번이든 flush 주기당 한 행만 갱신됩니다.
+@Slf4j(topic = "UserActivityTracker")
+@Component
+@RequiredArgsConstructor
+public class UserActivityTracker {
+
+    // 다른 인스턴스가 더 최근 값을 이미 기록했다면 덮어쓰지 않습니다.
+    private static final String UPDATE_LAST_SEEN_SQL =
+            "UPDATE users SET last_seen_at = ? WHERE id = ? AND (last_seen_at IS NULL OR last_seen_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.last-seen.batch-size:1000}")
+    private int batchSize = 1000;
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void touch(long userId) {
+        long now = System.currentTimeMillis();
+        pending.merge(userId, now, Math::max);
+    }
+
+    // 아직 기록되지 않은 활동이 있으면 저장된 값과 비교해 더 최근 값을 돌려줍니다.
+    public LocalDateTime merge(long userId, LocalDateTime stored) {
+        Long pendingMillis = pending.get(userId);
+        if (pendingMillis == null) {
+            return stored;
+        }
+        LocalDateTime inMemory = toLocalDateTime(pendingMillis);
+        return stored == null || inMemory.isAfter(stored) ? inMemory : stored;
+    }
+
+    @Scheduled(fixedDelayString = "${user.last-seen.flush-interval-millis:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> snapshot = new ArrayList<>(pending.size());
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            snapshot.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> batch = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> update(batch));
+            } catch (RuntimeException e) {
+                // 남아 있는 값은 다음 flush 에서 다시 기록합니다.
+                log.warn("마지막 활동 시각 기록 실패. size={}", batch.size(), e);
+                continue;
+            }
+            // flush 중에 더 최근 활동이 들어왔다면 값이 바뀌었으므로 지우지 않고 다음 flush 로 넘깁니다.
+            for (Map.Entry<Long, Long> entry : batch) {
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int pendingSize() {
+        return pending.size();
+    }
+
+    private void update(List<Map.Entry<Long, Long>> batch) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_SEEN_SQL, batch, batch.size(), (ps, entry) -> {
+            Timestamp lastSeenAt = Timestamp.valueOf(toLocalDateTime(entry.getValue()));
+            ps.setTimestamp(1, lastSeenAt);
+            ps.setLong(2, entry.getKey());
+            ps.setTimestamp(3, lastSeenAt);
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
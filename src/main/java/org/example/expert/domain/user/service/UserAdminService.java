@@ -1,23 +1,126 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
+import org.example.expert.domain.user.dto.response.UserSummaryPageResponse;
+import org.example.expert.domain.user.dto.response.UserSummaryResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j(topic = "UserAdminService")
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    private static final String CURSOR_PREFIX = "v1:";
+
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final UserRoleChangeRegistry userRoleChangeRegistry;
+
+    @Value("${user.admin.page.max-size:100}")
+    private int maxPageSize = 100;
+    @Value("${user.admin.role-chunk-size:500}")
+    private int roleChunkSize = 500;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        UserRole userRole = UserRole.of(userRoleChangeRequest.getRole());
+        LocalDateTime now = LocalDateTime.now();
+        if (user.getUserRole() != userRole) {
+            user.updateRole(userRole, now);
+            userRoleChangeRegistry.addAfterCommit(List.of(userId), userRole, now);
+        }
+        userProfileCache.invalidateAfterCommit(userId);
+    }
+
+    // 엔티티를 읽지 않고 청크마다 UPDATE ... WHERE id IN (...) 을 실행합니다. 전체가 한 트랜잭션이고 캐시는 커밋 뒤 한 번에 무효화합니다.
+    // 이미 발급된 토큰은 커밋 뒤 UserRoleChangeRegistry 에 등록된 현재 권한과 달라지므로 JwtFilter 에서 거절됩니다.
+    // id 를 정렬해서 갱신하므로 동시에 겹치는 요청이 와도 행 잠금 순서가 같습니다.
+    @Transactional
+    public UserRoleBulkChangeResponse changeUserRoles(List<Long> userIds, String role) {
+        UserRole userRole = UserRole.of(role);
+        List<Long> distinctIds = userIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        long updatedCount = 0;
+        int chunkCount = 0;
+        for (int from = 0; from < distinctIds.size(); from += roleChunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + roleChunkSize, distinctIds.size()));
+            updatedCount += userRepository.updateRoles(chunk, userRole, now);
+            chunkCount++;
+        }
+
+        userProfileCache.invalidateAllAfterCommit(distinctIds);
+        // 이미 같은 권한이던 유저도 등록되지만, 그 유저의 토큰은 권한이 같아 그대로 통과합니다.
+        userRoleChangeRegistry.addAfterCommit(distinctIds, userRole, now);
+        log.info("유저 권한 일괄 변경. 권한: {} / 요청: {} / 변경: {} / 청크: {}", userRole, distinctIds.size(), updatedCount, chunkCount);
+        return new UserRoleBulkChangeResponse(distinctIds.size(), updatedCount, chunkCount);
+    }
+
+    // email 기준 keyset 페이지네이션. 비밀번호 해시가 딸려오지 않도록 엔티티 대신 projection 으로 조회합니다.
+    @Transactional(readOnly = true)
+    public UserSummaryPageResponse searchUsers(String emailPrefix, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+        String afterEmail = cursor == null ? "" : decodeCursor(cursor);
+
+        List<UserSummary> summaries = userRepository.findSummariesByEmailPrefix(
+                escapeLike(emailPrefix == null ? "" : emailPrefix) + "%",
+                afterEmail,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasMore = summaries.size() > pageSize;
+        List<UserSummary> page = summaries.subList(0, Math.min(summaries.size(), pageSize));
+        List<UserSummaryResponse> users = new ArrayList<>(page.size());
+        for (UserSummary summary : page) {
+            users.add(new UserSummaryResponse(summary.getId(), summary.getEmail(), summary.getUserRole(), summary.getCreatedAt()));
+        }
+
+        String nextCursor = page.isEmpty() ? cursor : encodeCursor(page.get(page.size() - 1).getEmail());
+        return new UserSummaryPageResponse(users, nextCursor, hasMore);
+    }
+
+    public UserCacheStatsResponse getCacheStats() {
+        return userProfileCache.getStats();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String encodeCursor(String email) {
+        String raw = CURSOR_PREFIX + email;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            return raw.substring(CURSOR_PREFIX.length());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
     }
 }
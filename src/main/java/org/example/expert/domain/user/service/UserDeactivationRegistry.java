@@ -0,0 +1,61 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.repository.DeactivatedUser;
+import org.example.expert.domain.user.repository.UserDeletionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JwtFilter 가 DB 조회 없이 탈퇴한 유저의 토큰을 거절할 수 있도록 탈퇴 유저 id 를 메모리에 둡니다.
+// 토큰 유효 시간(60분)이 지나면 발급된 토큰이 모두 만료되므로 목록에서 지우고, 다른 인스턴스의 탈퇴 요청은 주기적으로 읽어 옵니다.
+@Component
+@RequiredArgsConstructor
+public class UserDeactivationRegistry {
+
+    private final UserDeletionRepository userDeletionRepository;
+
+    @Value("${user.deletion.token-retention-millis:3600000}")
+    private long retentionMillis = 3_600_000;
+
+    private final Map<Long, LocalDateTime> deactivatedUsers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${user.deletion.registry-refresh-millis:5000}")
+    public void refresh() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+        for (DeactivatedUser user : userDeletionRepository.findRequestedSince(since)) {
+            deactivatedUsers.put(user.getUserId(), user.getRequestedAt());
+        }
+        deactivatedUsers.values().removeIf(requestedAt -> requestedAt.isBefore(since));
+    }
+
+    public boolean isDeactivated(long userId) {
+        return deactivatedUsers.containsKey(userId);
+    }
+
+    // 트랜잭션 안이라면 커밋된 뒤에 등록합니다.
+    public void addAfterCommit(long userId, LocalDateTime requestedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deactivatedUsers.put(userId, requestedAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deactivatedUsers.put(userId, requestedAt);
+            }
+        });
+    }
+
+    public int size() {
+        return deactivatedUsers.size();
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerDeleteTarget;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserDeletionResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.entity.UserDeletion;
+import org.example.expert.domain.user.enums.UserDeletionStatus;
+import org.example.expert.domain.user.repository.UserDeletionRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 탈퇴 요청은 유저를 비활성으로 표시하고 토큰을 막는 데까지만 하고,
+// 할일·댓글·담당자 정리는 백그라운드 작업이 청크마다 짧은 트랜잭션으로 나누어 처리합니다.
+@Slf4j(topic = "UserDeletionService")
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserDeletionService {
+
+    private final UserRepository userRepository;
+    private final UserDeletionRepository userDeletionRepository;
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentAdminService commentAdminService;
+    private final ChangeLogService changeLogService;
+    private final TodoMembershipIndex todoMembershipIndex;
+    private final UserProfileCache userProfileCache;
+    private final UserDeactivationRegistry userDeactivationRegistry;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.deletion.chunk-size:500}")
+    private int chunkSize = 500;
+    @Value("${user.deletion.lease-seconds:300}")
+    private long leaseSeconds = 300;
+    @Value("${user.deletion.max-per-poll:10}")
+    private int maxPerPoll = 10;
+
+    @Transactional
+    public UserDeletionResponse requestDeletion(long userId, String password) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        if (user.isDeactivated()) {
+            throw new InvalidRequestException("이미 탈퇴한 유저입니다.");
+        }
+        if (!passwordEncoder.matches(password, user.getPassword())) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        user.deactivate(now);
+        UserDeletion deletion = userDeletionRepository.save(new UserDeletion(userId, now));
+        userDeactivationRegistry.addAfterCommit(userId, now);
+        return toResponse(deletion);
+    }
+
+    public UserDeletionResponse getDeletion(long userId) {
+        return userDeletionRepository.findByUserId(userId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new InvalidRequestException("탈퇴 요청이 없습니다."));
+    }
+
+    @Scheduled(fixedDelayString = "${user.deletion.poll-interval-millis:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processPending() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(leaseSeconds);
+        List<Long> deletionIds = userDeletionRepository.findClaimableIds(
+                UserDeletionStatus.PENDING, UserDeletionStatus.IN_PROGRESS, staleBefore, PageRequest.of(0, maxPerPoll));
+
+        for (Long deletionId : deletionIds) {
+            Integer claimed = transactionTemplate.execute(status -> userDeletionRepository.claim(
+                    deletionId, UserDeletionStatus.PENDING, UserDeletionStatus.IN_PROGRESS, LocalDateTime.now(), staleBefore));
+            if (claimed == null || claimed == 0) {
+                continue;
+            }
+            UserDeletion deletion = userDeletionRepository.findById(deletionId).orElseThrow();
+            try {
+                cleanUp(deletion);
+            } catch (RuntimeException e) {
+                // 각 단계는 다시 실행해도 안전하므로, lease 가 끝나면 처음부터 다시 시도합니다.
+                log.warn("탈퇴 유저 정리 실패. userId={}", deletion.getUserId(), e);
+            }
+        }
+    }
+
+    private void cleanUp(UserDeletion deletion) {
+        long userId = deletion.getUserId();
+
+        // 1. 유저가 다른 댓글에 남긴 반응
+        long reactions = commentAdminService.deleteReactionsByUser(userId);
+        log.info("탈퇴 유저 정리 진행 중. userId={} / 반응 {}건 삭제", userId, reactions);
+
+        // 2. 유저가 쓴 댓글과 그 아래에 달린 답글
+        CommentBulkDeleteResponse comments = commentAdminService.deleteCommentsByUser(userId);
+        addProgress(deletion, 0, comments.getDeletedCount(), 0, comments.getChunkCount());
+
+        // 3. 유저가 만든 할일과 거기에 달린 댓글, 담당자
+        while (true) {
+            List<Long> todoIds = todoRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+            CommentBulkDeleteResponse todoComments = commentAdminService.deleteCommentsByTodos(todoIds);
+            transactionTemplate.executeWithoutResult(status -> {
+                managerRepository.deleteAllByTodoIdIn(todoIds);
+                todoRepository.deleteAllByIdIn(todoIds);
+                changeLogService.recordAll(ChangeEntityType.TODO, todoIds, todoIds, ChangeType.DELETED);
+                todoIds.forEach(todoMembershipIndex::invalidateAfterCommit);
+                addProgress(deletion, todoIds.size(), todoComments.getDeletedCount(), 0, todoComments.getChunkCount() + 1);
+            });
+            log.info("탈퇴 유저 정리 진행 중. userId={} / 할일 {}건 삭제", userId, todoIds.size());
+        }
+
+        // 4. 다른 유저의 할일에 담당자로 등록된 행
+        while (true) {
+            List<ManagerDeleteTarget> targets = transactionTemplate.execute(status -> {
+                List<ManagerDeleteTarget> found = managerRepository.findDeleteTargetsByUserId(userId, PageRequest.of(0, chunkSize));
+                if (!found.isEmpty()) {
+                    deleteManagers(found);
+                    addProgress(deletion, 0, 0, found.size(), 1);
+                }
+                return found;
+            });
+            if (targets.isEmpty()) {
+                break;
+            }
+            log.info("탈퇴 유저 정리 진행 중. userId={} / 담당자 {}건 삭제", userId, targets.size());
+        }
+
+        // 5. 유저 행 삭제와 완료 표시
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.deleteById(userId);
+            userDeletionRepository.complete(deletion.getId(), UserDeletionStatus.COMPLETED, LocalDateTime.now());
+            userProfileCache.invalidateAfterCommit(userId);
+        });
+        log.info("탈퇴 유저 정리 완료. userId={}", userId);
+    }
+
+    private void deleteManagers(List<ManagerDeleteTarget> targets) {
+        List<Long> managerIds = new ArrayList<>(targets.size());
+        List<Long> todoIds = new ArrayList<>(targets.size());
+        for (ManagerDeleteTarget target : targets) {
+            managerIds.add(target.getId());
+            todoIds.add(target.getTodoId());
+        }
+        managerRepository.deleteAllByIdIn(managerIds);
+        changeLogService.recordAll(ChangeEntityType.MANAGER, managerIds, todoIds, ChangeType.DELETED);
+        todoIds.forEach(todoMembershipIndex::invalidateAfterCommit);
+    }
+
+    private void addProgress(UserDeletion deletion, long todos, long comments, long managers, int chunks) {
+        transactionTemplate.executeWithoutResult(status ->
+                userDeletionRepository.addProgress(deletion.getId(), todos, comments, managers, chunks, LocalDateTime.now()));
+    }
+
+    private UserDeletionResponse toResponse(UserDeletion deletion) {
+        return new UserDeletionResponse(
+                deletion.getUserId(),
+                deletion.getStatus(),
+                deletion.getDeletedTodos(),
+                deletion.getDeletedComments(),
+                deletion.getDeletedManagers(),
+                deletion.getChunkCount(),
+                deletion.getRequestedAt(),
+                deletion.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserImportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 가져오기 본문을 한 줄씩 읽어 청크 단위로 넘겨줍니다. 파일 전체를 메모리에 올리지 않습니다.
+class UserImportReader {
+
+    private static final String INVALID_ROW_MESSAGE = "잘못된 형식의 행입니다.";
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+    private int emailColumn = -1;
+    private int passwordColumn = -1;
+    private int userRoleColumn = -1;
+
+    UserImportReader(InputStream body, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == UserImportFormat.CSV) {
+            readHeader();
+        }
+    }
+
+    List<Row> nextChunk(int size) {
+        List<Row> rows = new ArrayList<>(size);
+        String line;
+        while (rows.size() < size && (line = readLine()) != null) {
+            if (!line.isBlank()) {
+                rows.add(parse(line));
+            }
+        }
+        return rows;
+    }
+
+    private void readHeader() {
+        String header;
+        do {
+            header = readLine();
+        } while (header != null && header.isBlank());
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+
+        List<String> columns = splitCsv(header);
+        if (columns == null) {
+            throw new InvalidRequestException("CSV 헤더 형식이 올바르지 않습니다.");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "email" -> emailColumn = i;
+                case "password" -> passwordColumn = i;
+                case "userrole", "user_role" -> userRoleColumn = i;
+                default -> { }
+            }
+        }
+        if (emailColumn < 0 || passwordColumn < 0 || userRoleColumn < 0) {
+            throw new InvalidRequestException("CSV 헤더에는 email, password, userRole 컬럼이 필요합니다.");
+        }
+    }
+
+    private Row parse(String line) {
+        if (format == UserImportFormat.NDJSON) {
+            try {
+                return new Row(lineNumber, objectMapper.readValue(line, SignupRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(lineNumber, null, INVALID_ROW_MESSAGE);
+            }
+        }
+
+        List<String> fields = splitCsv(line);
+        int columnCount = Math.max(emailColumn, Math.max(passwordColumn, userRoleColumn)) + 1;
+        if (fields == null || fields.size() < columnCount) {
+            return new Row(lineNumber, null, INVALID_ROW_MESSAGE);
+        }
+        return new Row(lineNumber, new SignupRequest(
+                fields.get(emailColumn).trim(),
+                fields.get(passwordColumn),
+                fields.get(userRoleColumn).trim()
+        ), null);
+    }
+
+    // RFC 4180 의 큰따옴표 규칙만 지원합니다. 따옴표가 닫히지 않은 행은 null 을 반환합니다.
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record Row(long line, SignupRequest request, String error) {
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.service.EmailBloomFilter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.dto.response.UserImportErrorResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 유저 일괄 가입. 본문을 청크 단위로 읽고, 비밀번호 해시는 전용 스레드 풀에서 병렬로 계산하며
+// 다음 청크를 해시하는 동안 이전 청크를 배치 insert 합니다. 메모리에는 최대 두 청크만 올라갑니다.
+@Slf4j(topic = "UserImportService")
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DUPLICATE_EMAIL_MESSAGE = "이미 존재하는 이메일입니다.";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${user.import.chunk-size:500}")
+    private int chunkSize = 500;
+    @Value("${user.import.hash-threads:0}")
+    private int hashThreads;
+    @Value("${user.import.max-reported-errors:1000}")
+    private int maxReportedErrors = 1000;
+
+    private ExecutorService hashExecutor;
+
+    @PostConstruct
+    public void start() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashExecutor.shutdownNow();
+    }
+
+    public UserImportResponse importUsers(InputStream body, UserImportFormat format) {
+        UserImportReader reader = new UserImportReader(body, format, objectMapper);
+        ImportResult result = new ImportResult();
+
+        CompletableFuture<List<HashedUser>> hashing = prepare(reader.nextChunk(chunkSize), result);
+        while (hashing != null) {
+            List<HashedUser> hashed = join(hashing);
+            List<UserImportReader.Row> next = reader.nextChunk(chunkSize);
+            hashing = next.isEmpty() ? null : prepare(next, result);
+
+            insert(hashed, result);
+            result.chunkCount++;
+            log.info("유저 일괄 가입 진행 중. 청크: {} / 성공: {} / 실패: {}", result.chunkCount, result.importedCount, result.failedCount);
+        }
+
+        return new UserImportResponse(result.importedCount, result.failedCount, result.chunkCount, result.errors, result.errorsTruncated);
+    }
+
+    // 형식 검증과 중복 확인을 마친 행만 해시 스레드 풀로 넘깁니다.
+    private CompletableFuture<List<HashedUser>> prepare(List<UserImportReader.Row> rows, ImportResult result) {
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+        for (UserImportReader.Row row : rows) {
+            if (row.error() != null) {
+                result.fail(row.line(), null, row.error());
+                continue;
+            }
+            SignupRequest request = row.request();
+            String error = validate(request);
+            if (error != null) {
+                result.fail(row.line(), request.getEmail(), error);
+                continue;
+            }
+            String key = request.getEmail().toLowerCase(Locale.ROOT);
+            if (candidates.containsKey(key)) {
+                result.fail(row.line(), request.getEmail(), DUPLICATE_EMAIL_MESSAGE);
+                continue;
+            }
+            candidates.put(key, new Candidate(row.line(), request.getEmail(), request.getPassword(), UserRole.of(request.getUserRole())));
+        }
+
+        // 다시 올린 파일처럼 이미 가입된 이메일에는 해시 비용을 쓰지 않도록 미리 걸러냅니다.
+        if (!candidates.isEmpty()) {
+            List<String> emails = candidates.values().stream().map(Candidate::email).toList();
+            for (String existing : userRepository.findExistingEmails(emails)) {
+                Candidate candidate = candidates.remove(existing.toLowerCase(Locale.ROOT));
+                if (candidate != null) {
+                    result.fail(candidate.line(), candidate.email(), DUPLICATE_EMAIL_MESSAGE);
+                }
+            }
+        }
+
+        List<CompletableFuture<HashedUser>> futures = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> new HashedUser(
+                    candidate.line(), candidate.email(), passwordEncoder.encode(candidate.password()), candidate.userRole()
+            ), hashExecutor));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private String validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        try {
+            UserRole.of(request.getUserRole());
+            return null;
+        } catch (InvalidRequestException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void insert(List<HashedUser> users, ImportResult result) {
+        if (users.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchInsert(users));
+            succeed(users, result);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 파일의 다른 청크나 동시에 가입한 유저와 겹친 경우이므로 한 건씩 다시 시도합니다.
+            for (HashedUser user : users) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> batchInsert(List.of(user)));
+                    succeed(List.of(user), result);
+                } catch (DataIntegrityViolationException single) {
+                    result.fail(user.line(), user.email(), DUPLICATE_EMAIL_MESSAGE);
+                }
+            }
+        }
+    }
+
+    private void batchInsert(List<HashedUser> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.email());
+            ps.setString(2, user.encodedPassword());
+            ps.setString(3, user.userRole().name());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    private void succeed(List<HashedUser> users, ImportResult result) {
+        for (HashedUser user : users) {
+            emailBloomFilter.add(user.email());
+        }
+        result.importedCount += users.size();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new ServerException("비밀번호 해시 계산에 실패했습니다.");
+        }
+    }
+
+    private record Candidate(long line, String email, String password, UserRole userRole) {
+    }
+
+    private record HashedUser(long line, String email, String encodedPassword, UserRole userRole) {
+    }
+
+    private class ImportResult {
+
+        private long importedCount;
+        private long failedCount;
+        private int chunkCount;
+        private final List<UserImportErrorResponse> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+
+        private void fail(long line, String email, String message) {
+            failedCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportErrorResponse(line, email, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
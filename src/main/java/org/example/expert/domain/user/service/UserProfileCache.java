@@ -0,0 +1,139 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 유저 id -> UserResponse 프로세스 로컬 캐시.
+// 같은 키의 동시 miss 는 한 번의 조회로 합쳐지고, refresh-after 가 지난 항목은 기존 값을 돌려주면서 백그라운드에서 다시 읽습니다.
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache {
+
+    // 항목당 고정 비용(키, 응답 객체, 캐시 노드)의 대략적인 바이트 수
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final UserRepository userRepository;
+
+    @Value("${user.cache.max-weight-bytes:16777216}")
+    private long maxWeightBytes = 16 * 1024 * 1024;
+    @Value("${user.cache.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+    @Value("${user.cache.refresh-seconds:300}")
+    private long refreshSeconds = 300;
+    @Value("${user.cache.load-chunk-size:100}")
+    private int loadChunkSize = 100;
+
+    private LoadingCache<Long, UserResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long userId, UserResponse user) -> ENTRY_OVERHEAD_BYTES + 2 * user.getEmail().length())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public UserResponse load(Long userId) {
+                        return UserProfileCache.this.load(userId);
+                    }
+
+                    @Override
+                    public Map<Long, UserResponse> loadAll(Set<? extends Long> userIds) {
+                        return UserProfileCache.this.loadAll(userIds);
+                    }
+                });
+    }
+
+    // 유저가 없으면 null 을 반환합니다. 없는 유저는 캐시하지 않습니다.
+    public UserResponse get(long userId) {
+        return cache.get(userId);
+    }
+
+    // 캐시에 없는 id 만 IN 쿼리로 묶어서 읽습니다. 없는 유저는 결과에서 빠집니다.
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds);
+    }
+
+    public void invalidate(long userId) {
+        cache.invalidate(userId);
+    }
+
+    // 트랜잭션 안이라면 커밋된 뒤에 무효화합니다.
+    public void invalidateAfterCommit(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidateAllAfterCommit(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(userIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateAll(userIds);
+            }
+        });
+    }
+
+    public UserCacheStatsResponse getStats() {
+        CacheStats stats = cache.stats();
+        return new UserCacheStatsResponse(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                TimeUnit.NANOSECONDS.toMicros((long) stats.averageLoadPenalty()),
+                stats.evictionCount(),
+                stats.evictionWeight()
+        );
+    }
+
+    private UserResponse load(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> new UserResponse(user.getId(), user.getEmail()))
+                .orElse(null);
+    }
+
+    // IN 절이 너무 길어지지 않도록 chunk-size 단위로 나누어 조회합니다.
+    private Map<Long, UserResponse> loadAll(Set<? extends Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        Map<Long, UserResponse> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += loadChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + loadChunkSize, ids.size()));
+            for (User user : userRepository.findAllById(chunk)) {
+                loaded.put(user.getId(), new UserResponse(user.getId(), user.getEmail()));
+            }
+        }
+        return loaded;
+    }
+}
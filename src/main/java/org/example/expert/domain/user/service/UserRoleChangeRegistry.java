@@ -0,0 +1,74 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.RoleChangedUser;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 권한이 바뀐 유저의 현재 권한을 메모리에 둡니다. JwtFilter 는 토큰에 담긴 권한이 이 값과 다르면 토큰을 거절합니다.
+// 토큰 유효 시간(60분)이 지나면 바뀌기 전의 토큰이 모두 만료되므로 목록에서 지우고, 다른 인스턴스의 변경은 주기적으로 읽어 옵니다.
+@Component
+@RequiredArgsConstructor
+public class UserRoleChangeRegistry {
+
+    private final UserRepository userRepository;
+
+    @Value("${user.role-change.token-retention-millis:3600000}")
+    private long retentionMillis = 3_600_000;
+
+    private final Map<Long, ChangedRole> changedRoles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${user.role-change.registry-refresh-millis:5000}")
+    public void refresh() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+        for (RoleChangedUser user : userRepository.findRoleChangedSince(since)) {
+            put(user.getUserId(), user.getUserRole(), user.getRoleChangedAt());
+        }
+        changedRoles.values().removeIf(changed -> changed.changedAt().isBefore(since));
+    }
+
+    // 최근 권한이 바뀐 유저라면 현재 권한을, 아니라면 null 을 반환합니다.
+    public UserRole getChangedRole(long userId) {
+        ChangedRole changed = changedRoles.get(userId);
+        return changed == null ? null : changed.role();
+    }
+
+    // 트랜잭션 안이라면 커밋된 뒤에 등록합니다.
+    public void addAfterCommit(Collection<Long> userIds, UserRole userRole, LocalDateTime changedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userIds.forEach(userId -> put(userId, userRole, changedAt));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userIds.forEach(userId -> put(userId, userRole, changedAt));
+            }
+        });
+    }
+
+    public int size() {
+        return changedRoles.size();
+    }
+
+    // 순서가 뒤바뀌어 들어와도 더 나중의 변경만 남깁니다.
+    private void put(long userId, UserRole userRole, LocalDateTime changedAt) {
+        changedRoles.merge(userId, new ChangedRole(userRole, changedAt),
+                (current, next) -> next.changedAt().isBefore(current.changedAt()) ? current : next);
+    }
+
+    private record ChangedRole(UserRole role, LocalDateTime changedAt) {
+    }
+}
@@ -4,12 +4,22 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
+import org.example.expert.domain.user.dto.response.UserLastSeenResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserLastSeen;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -17,10 +27,50 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
+    private final UserActivityTracker userActivityTracker;
+
+    @Value("${user.batch.max-ids:500}")
+    private int maxBatchSize = 500;
 
+    // 캐시 적중 시에는 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail());
+        UserResponse user = userProfileCache.get(userId);
+        if (user == null) {
+            throw new InvalidRequestException("User not found");
+        }
+        return user;
+    }
+
+    // 요청한 순서대로 반환하고, 없는 id 는 실패 대신 missingIds 로 알려줍니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserBatchResponse getUsers(List<Long> userIds) {
+        List<Long> distinctIds = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty() || userIds.size() > maxBatchSize) {
+            throw new InvalidRequestException("조회할 유저 id 는 1개 이상 " + maxBatchSize + "개 이하여야 합니다.");
+        }
+
+        Map<Long, UserResponse> found = userProfileCache.getAll(distinctIds);
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long userId : distinctIds) {
+            UserResponse user = found.get(userId);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missingIds.add(userId);
+            }
+        }
+        return new UserBatchResponse(users, missingIds);
+    }
+
+    // 저장된 값은 flush 주기만큼 늦을 수 있으므로 아직 기록되지 않은 메모리 값과 합쳐서 돌려줍니다.
+    public UserLastSeenResponse getLastSeen(long userId) {
+        UserLastSeen lastSeen = userRepository.findLastSeenById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        return new UserLastSeenResponse(userId, userActivityTracker.merge(userId, lastSeen.getLastSeenAt()));
     }
 
     @Transactional
@@ -28,18 +78,20 @@ public class UserService {
 
         validatePassword(userChangePasswordRequest);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        // 기존 비밀번호가 검증되면 저장된 해시와 비교하는 대신 입력값끼리 비교해도 같으므로, bcrypt 검증은 한 번만 합니다.
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        userProfileCache.invalidateAfterCommit(userId);
     }
 
     void validatePassword(UserChangePasswordRequest userChangePasswordRequest) {
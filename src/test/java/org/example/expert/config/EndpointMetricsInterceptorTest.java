@@ -0,0 +1,107 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.example.expert.domain.comment.controller.CommentController;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EndpointMetricsInterceptor interceptor = new EndpointMetricsInterceptor(meterRegistry);
+
+    @Test
+    public void 엔드포인트와_응답_분류별로_지연_시간을_기록한다() throws Exception {
+        // given
+        HandlerMethod handler = new HandlerMethod("todoController", TodoController.class.getMethod("getTodo", long.class));
+
+        // when
+        handle(handler, 200);
+        handle(handler, 200);
+        handle(handler, 404);
+
+        // then
+        Timer success = meterRegistry.get("api.requests")
+                .tags("method", "GET", "uri", "/todos/{todoId}", "outcome", "SUCCESS").timer();
+        Timer clientError = meterRegistry.get("api.requests")
+                .tags("method", "GET", "uri", "/todos/{todoId}", "outcome", "CLIENT_ERROR").timer();
+        assertEquals(2, success.count());
+        assertEquals(1, clientError.count());
+    }
+
+    @Test
+    public void 핸들러_메서드가_아니면_기록하지_않는다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/static/app.js");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        assertTrue(meterRegistry.find("api.requests").timers().isEmpty());
+    }
+
+    @Test
+    public void 비동기_응답은_처음_요청부터_async_디스패치가_끝날_때까지를_기록한다() throws Exception {
+        // given
+        HandlerMethod handler = new HandlerMethod("commentController", CommentController.class.getMethod("streamComments", long.class));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1/comments/stream");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}/comments/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        Thread.sleep(50);
+        Thread asyncDispatch = new Thread(() -> {
+            request.setDispatcherType(DispatcherType.ASYNC);
+            interceptor.preHandle(request, response, handler);
+            interceptor.afterCompletion(request, response, handler, null);
+        });
+        asyncDispatch.start();
+        asyncDispatch.join();
+
+        // then
+        Timer timer = meterRegistry.get("api.requests")
+                .tags("uri", "/todos/{todoId}/comments/stream", "outcome", "SUCCESS").timer();
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    public void 예외_처리_결과별_건수를_센다() {
+        // given
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+
+        // when
+        handler.invalidRequestExceptionException(new InvalidRequestException("invalid"));
+        handler.invalidRequestExceptionException(new InvalidRequestException("invalid"));
+
+        // then
+        assertEquals(2, meterRegistry.get("api.exceptions").tags("exception", "InvalidRequestException", "status", "400").counter().count());
+        assertEquals(0, meterRegistry.get("api.exceptions").tags("exception", "ServerException").counter().count());
+    }
+
+    private void handle(HandlerMethod handler, int status) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserActivityTracker;
+import org.example.expert.domain.user.service.UserDeactivationRegistry;
+import org.example.expert.domain.user.service.UserRoleChangeRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    @Mock
+    private UserDeactivationRegistry userDeactivationRegistry;
+    @Mock
+    private UserRoleChangeRegistry userRoleChangeRegistry;
+    @Mock
+    private UserActivityTracker userActivityTracker;
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "c2VjcmV0LWtleS1mb3Itand0LWZpbHRlci10ZXN0LW9ubHktMzItYnl0ZXM=");
+        jwtUtil.init();
+        jwtFilter = new JwtFilter(jwtUtil, userDeactivationRegistry, userRoleChangeRegistry, userActivityTracker, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void 권한이_바뀌기_전에_발급된_관리자_토큰은_거절한다() throws Exception {
+        // given
+        given(userRoleChangeRegistry.getChangedRole(1L)).willReturn(UserRole.USER);
+
+        // when
+        MockHttpServletResponse response = filter("/admin/users", jwtUtil.createToken(1L, "admin@email.com", UserRole.ADMIN));
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals("권한이 변경되었습니다. 다시 로그인해주세요.", response.getErrorMessage());
+    }
+
+    @Test
+    public void 바뀐_권한으로_다시_발급된_토큰은_통과한다() throws Exception {
+        // given
+        given(userRoleChangeRegistry.getChangedRole(1L)).willReturn(UserRole.ADMIN);
+
+        // when
+        MockHttpServletResponse response = filter("/admin/users", jwtUtil.createToken(1L, "admin@email.com", UserRole.ADMIN));
+
+        // then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    public void 권한이_바뀐_적_없는_유저의_토큰은_통과한다() throws Exception {
+        // when
+        MockHttpServletResponse response = filter("/todos", jwtUtil.createToken(2L, "user@email.com", UserRole.USER));
+
+        // then
+        assertEquals(200, response.getStatus());
+    }
+
+    private MockHttpServletResponse filter(String uri, String bearerToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
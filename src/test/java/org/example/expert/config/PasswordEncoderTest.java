@@ -1,17 +1,18 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry());
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,4 +26,43 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 현재_cost보다_낮은_해시는_다시_만들어야_한다() {
+        // given
+        String oldHash = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, "testPassword".toCharArray());
+        String currentHash = passwordEncoder.encode("testPassword");
+
+        // when & then
+        assertTrue(passwordEncoder.needsRehash(oldHash));
+        assertFalse(passwordEncoder.needsRehash(currentHash));
+        assertTrue(passwordEncoder.needsRehash("plain-text"));
+    }
+
+    @Test
+    void 설정한_cost가_있으면_보정하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", 5);
+
+        // when
+        passwordEncoder.calibrate();
+
+        // then
+        assertEquals(5, passwordEncoder.getCost());
+        assertTrue(passwordEncoder.encode("testPassword").startsWith("$2a$05$"));
+    }
+
+    @Test
+    void 목표_시간에_맞춰_cost를_보정한다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "minCost", 4);
+        ReflectionTestUtils.setField(passwordEncoder, "maxCost", 8);
+        ReflectionTestUtils.setField(passwordEncoder, "targetMillis", 0L);
+
+        // when
+        passwordEncoder.calibrate();
+
+        // then
+        assertEquals(4, passwordEncoder.getCost());
+    }
 }
@@ -16,14 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -37,6 +39,9 @@ public class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -59,6 +64,7 @@ public class AuthServiceTest {
         // given
         SignupRequest signupRequest = new SignupRequest("test@email.com", "testPassword", "USER");
 
+        given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(true);
 
         // when
@@ -67,6 +73,25 @@ public class AuthServiceTest {
 
         // then
         assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    public void 회원가입시_동시에_가입한_이메일은_unique_제약으로_거절된다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("test@email.com", "testPassword", "USER");
+
+        given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encoded");
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signup(signupRequest));
+
+        // then
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(emailBloomFilter, never()).add(any());
     }
 
     @Test
@@ -79,7 +104,7 @@ public class AuthServiceTest {
         String bearerToken = "bearerToken";
 
         given(passwordEncoder.encode(signupRequest.getPassword())).willReturn(encodedPassword);
-        given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
+        given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
         given(userRepository.save(any(User.class))).willReturn(savedUser);
         given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole)).willReturn(bearerToken);
 
@@ -89,8 +114,9 @@ public class AuthServiceTest {
         // then
         assertEquals(bearerToken, response.getBearerToken());
         verify(passwordEncoder, times(2)).encode(signupRequest.getPassword());
-        verify(userRepository).existsByEmail(signupRequest.getEmail());
+        verify(userRepository, never()).existsByEmail(any());
         verify(userRepository).save(any(User.class));
+        verify(emailBloomFilter).add(signupRequest.getEmail());
         verify(jwtUtil).createToken(savedUser.getId(), savedUser.getEmail(), userRole);
     }
 
@@ -99,6 +125,7 @@ public class AuthServiceTest {
         // given
         SigninRequest signinRequest = new SigninRequest("test@email.com", "testPassword");
 
+        given(emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())).willReturn(true);
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.empty());
 
         // when
@@ -109,12 +136,29 @@ public class AuthServiceTest {
         assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
     }
 
+    @Test
+    public void 필터에_없는_이메일은_조회하지_않고_로그인을_거절한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("unknown@email.com", "testPassword");
+
+        given(emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signin(signinRequest));
+
+        // then
+        assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
     @Test
     public void 로그인시_비밀번호_불일치() {
         // given
         SigninRequest signinRequest = new SigninRequest("test@email.com", "testPassword");
         User user = new User(signinRequest.getEmail(), signinRequest.getPassword(), UserRole.USER);
 
+        given(emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())).willReturn(true);
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(false);
 
@@ -133,6 +177,7 @@ public class AuthServiceTest {
         User user = new User(signinRequest.getEmail(), signinRequest.getPassword(), UserRole.USER);
         String bearerToken = "bearerToken";
 
+        given(emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())).willReturn(true);
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
         given(jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.USER)).willReturn(bearerToken);
@@ -144,4 +189,46 @@ public class AuthServiceTest {
         assertNotNull(response);
         assertEquals(bearerToken, response.getBearerToken());
     }
+
+    @Test
+    public void 로그인_성공시_예전_cost의_해시를_다시_만든다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@email.com", "testPassword");
+        User user = new User(signinRequest.getEmail(), "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())).willReturn(true);
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(signinRequest.getPassword(), "oldHash")).willReturn(true);
+        given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(passwordEncoder.encode(signinRequest.getPassword())).willReturn("newHash");
+        given(userRepository.updatePasswordIfUnchanged(user.getId(), "oldHash", "newHash")).willThrow(new RuntimeException("db down"));
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.USER)).willReturn("bearerToken");
+
+        // when
+        SigninResponse response = authService.signin(signinRequest);
+
+        // then
+        assertEquals("bearerToken", response.getBearerToken());
+        verify(userRepository).updatePasswordIfUnchanged(user.getId(), "oldHash", "newHash");
+    }
+
+    @Test
+    public void 탈퇴한_유저는_로그인할_수_없다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@email.com", "testPassword");
+        User user = new User(signinRequest.getEmail(), "encodedPassword", UserRole.USER);
+        user.deactivate(LocalDateTime.now());
+
+        given(emailBloomFilter.mightContainAfterCatchUp(signinRequest.getEmail())).willReturn(true);
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> authService.signin(signinRequest));
+
+        // then
+        assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
+        verifyNoInteractions(passwordEncoder);
+    }
 }
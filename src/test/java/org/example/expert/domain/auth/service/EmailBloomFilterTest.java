@@ -0,0 +1,133 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(EmailBloomFilter.class)
+class EmailBloomFilterTest {
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void 구축_전에는_모든_이메일이_있을_수_있다고_답한다() {
+        // given
+        EmailBloomFilter notBuilt = new EmailBloomFilter(null);
+
+        // when & then
+        assertFalse(notBuilt.isReady());
+        assertTrue(notBuilt.mightContain("anyone@email.com"));
+    }
+
+    @Test
+    public void users_테이블을_나누어_읽어_구축한다() {
+        // given
+        ReflectionTestUtils.setField(emailBloomFilter, "scanBatchSize", 3);
+        for (int i = 0; i < 10; i++) {
+            userRepository.save(new User("user" + i + "@email.com", "password", UserRole.USER));
+        }
+        userRepository.flush();
+
+        // when
+        emailBloomFilter.rebuild();
+
+        // then
+        assertTrue(emailBloomFilter.isReady());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(emailBloomFilter.mightContain("user" + i + "@email.com"));
+        }
+        assertTrue(emailBloomFilter.mightContain("USER3@EMAIL.COM"));
+    }
+
+    @Test
+    public void 구축_이후_가입한_유저는_refresh로_반영된다() {
+        // given
+        emailBloomFilter.rebuild();
+        userRepository.saveAndFlush(new User("late@email.com", "password", UserRole.USER));
+
+        // when
+        emailBloomFilter.refresh();
+
+        // then
+        assertTrue(emailBloomFilter.mightContain("late@email.com"));
+    }
+
+    @Test
+    public void 더_큰_id보다_늦게_커밋된_유저도_refresh로_반영된다() {
+        // given
+        emailBloomFilter.rebuild();
+        insertUser(1_002L, "fast@email.com");
+        emailBloomFilter.refresh();
+
+        // when
+        insertUser(1_001L, "slow@email.com");
+        emailBloomFilter.refresh();
+
+        // then
+        assertTrue(emailBloomFilter.mightContain("fast@email.com"));
+        assertTrue(emailBloomFilter.mightContain("slow@email.com"));
+    }
+
+    @Test
+    public void 필터에_없는_이메일은_증분_스캔으로_한번_더_확인한다() {
+        // given
+        ReflectionTestUtils.setField(emailBloomFilter, "catchUpMillis", 0L);
+        emailBloomFilter.rebuild();
+        insertUser(2_001L, "elsewhere@email.com");
+
+        // when & then
+        assertFalse(emailBloomFilter.mightContain("elsewhere@email.com"));
+        assertTrue(emailBloomFilter.mightContainAfterCatchUp("elsewhere@email.com"));
+    }
+
+    @Test
+    public void 증분_스캔은_최소_간격_안에서는_다시_하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(emailBloomFilter, "catchUpMillis", 60_000L);
+        emailBloomFilter.rebuild();
+        insertUser(3_001L, "later@email.com");
+
+        // when & then
+        assertFalse(emailBloomFilter.mightContainAfterCatchUp("later@email.com"));
+    }
+
+    @Test
+    public void 없는_이메일의_오탐률은_설정값_근처에_머문다() {
+        // given
+        ReflectionTestUtils.setField(emailBloomFilter, "expectedInsertions", 10_000L);
+        emailBloomFilter.rebuild();
+        for (int i = 0; i < 10_000; i++) {
+            emailBloomFilter.add("member" + i + "@email.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (emailBloomFilter.mightContain("stranger" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    private void insertUser(long id, String email) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'password', 'USER')",
+                id, email);
+    }
+}
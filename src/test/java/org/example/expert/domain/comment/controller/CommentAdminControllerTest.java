@@ -1,10 +1,13 @@
 package org.example.expert.domain.comment.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentWriteBehindQueue;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -12,6 +15,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentAdminController.class)
+@Import(SimpleMeterRegistry.class)
 public class CommentAdminControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -19,6 +23,9 @@ public class CommentAdminControllerTest {
     @MockBean
     private CommentAdminService commentAdminService;
 
+    @MockBean
+    private CommentWriteBehindQueue commentWriteBehindQueue;
+
     @Test
     public void 댓글_삭제_성공() throws Exception {
         // given
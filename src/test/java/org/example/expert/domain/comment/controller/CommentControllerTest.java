@@ -1,9 +1,11 @@
 package org.example.expert.domain.comment.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.WebConfig;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
@@ -16,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -27,6 +30,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -38,6 +42,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 )
         }
 )
+@Import(SimpleMeterRegistry.class)
 public class CommentControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -93,4 +98,26 @@ public class CommentControllerTest {
         // then
         resultActions.andExpect(status().isOk());
     }
+
+    @Test
+    public void 댓글_페이지_조회_성공() throws Exception {
+        // given
+        long todoId = 1L;
+        CommentResponse commentResponse = new CommentResponse(11L, "comment", new UserResponse(1L, "user1@example.com"));
+        CommentPageResponse pageResponse = new CommentPageResponse(List.of(commentResponse), 11L, true);
+
+        given(commentService.getCommentPage(anyLong(), any(), anyInt())).willReturn(pageResponse);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/comments/page", todoId)
+                .param("cursor", "10")
+                .param("size", "1")
+                .header("Authorization", "Bearer someToken")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(11))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
 }
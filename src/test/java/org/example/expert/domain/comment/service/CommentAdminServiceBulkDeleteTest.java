@@ -0,0 +1,206 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.repository.ChangeLogRepository;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "comment.admin.delete-chunk-size=2")
+@Import({CommentAdminService.class, CommentReactionCounter.class, ChangeLogService.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentAdminServiceBulkDeleteTest {
+
+    @Autowired
+    private CommentAdminService commentAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Test
+    public void id_목록으로_청크_단위_일괄_삭제한다() {
+        // given
+        User user = userRepository.save(new User("bulk-ids@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        List<Long> commentIds = saveComments(user, todo, 5);
+        List<Long> requestIds = new ArrayList<>(commentIds);
+        requestIds.add(commentIds.get(0));
+        requestIds.add(Long.MAX_VALUE);
+        long changeLogsBefore = changeLogRepository.count();
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(requestIds);
+
+        // then
+        assertEquals(5, response.getDeletedCount());
+        assertEquals(3, response.getChunkCount());
+        assertTrue(commentRepository.findAllById(commentIds).isEmpty());
+        assertEquals(changeLogsBefore + 5, changeLogRepository.count());
+        assertTrue(changeLogRepository.findAll().stream()
+                .filter(changeLog -> commentIds.contains(changeLog.getEntityId()))
+                .allMatch(changeLog -> changeLog.getChangeType() == ChangeType.DELETED
+                        && changeLog.getTodoId().equals(todo.getId())));
+    }
+
+    @Test
+    public void 유저의_댓글만_모두_삭제한다() {
+        // given
+        User target = userRepository.save(new User("bulk-target@email.com", "password", UserRole.USER));
+        User other = userRepository.save(new User("bulk-other@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", target));
+        List<Long> targetIds = saveComments(target, todo, 5);
+        List<Long> otherIds = saveComments(other, todo, 2);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteCommentsByUser(target.getId());
+
+        // then
+        assertEquals(5, response.getDeletedCount());
+        assertEquals(3, response.getChunkCount());
+        assertTrue(commentRepository.findAllById(targetIds).isEmpty());
+        assertEquals(2, commentRepository.findAllById(otherIds).size());
+    }
+
+    @Test
+    public void 할일의_기간_내_댓글만_삭제한다() {
+        // given
+        User user = userRepository.save(new User("bulk-todo@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        Todo otherTodo = todoRepository.save(new Todo("other", "contents", "sunny", user));
+        List<Long> todoIds = saveComments(user, todo, 3);
+        List<Long> otherTodoIds = saveComments(user, otherTodo, 2);
+
+        // when
+        CommentBulkDeleteResponse inRange = commentAdminService.deleteCommentsByTodo(
+                todo.getId(), LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+        CommentBulkDeleteResponse outOfRange = commentAdminService.deleteCommentsByTodo(
+                otherTodo.getId(), LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+
+        // then
+        assertEquals(3, inRange.getDeletedCount());
+        assertEquals(0, outOfRange.getDeletedCount());
+        assertEquals(0, outOfRange.getChunkCount());
+        assertTrue(commentRepository.findAllById(todoIds).isEmpty());
+        assertEquals(2, commentRepository.findAllById(otherTodoIds).size());
+    }
+
+    @Test
+    public void 댓글을_지우면_아래_답글도_함께_삭제한다() {
+        // given
+        User user = userRepository.save(new User("bulk-single@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        Comment root = commentRepository.save(new Comment("root", user, todo));
+        Comment reply = saveReply(user, root);
+        Comment nested = saveReply(user, reply);
+        Comment sibling = commentRepository.save(new Comment("sibling", user, todo));
+        Comment siblingReply = saveReply(user, sibling);
+        long changeLogsBefore = changeLogRepository.count();
+
+        // when
+        commentAdminService.deleteComment(root.getId());
+
+        // then
+        assertTrue(commentRepository.findAllById(List.of(root.getId(), reply.getId(), nested.getId())).isEmpty());
+        assertEquals(2, commentRepository.findAllById(List.of(sibling.getId(), siblingReply.getId())).size());
+        assertEquals(changeLogsBefore + 3, changeLogRepository.count());
+    }
+
+    @Test
+    public void 존재하지_않는_댓글은_변경_내역을_남기지_않는다() {
+        // given
+        long changeLogsBefore = changeLogRepository.count();
+
+        // when
+        commentAdminService.deleteComment(Long.MAX_VALUE);
+
+        // then
+        assertEquals(changeLogsBefore, changeLogRepository.count());
+    }
+
+    @Test
+    public void id_목록으로_지울_때_답글을_중복으로_세지_않는다() {
+        // given
+        User user = userRepository.save(new User("bulk-subtree@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        Comment root = commentRepository.save(new Comment("root", user, todo));
+        Comment reply = saveReply(user, root);
+        Comment nested = saveReply(user, reply);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(List.of(reply.getId(), root.getId()));
+
+        // then
+        assertEquals(3, response.getDeletedCount());
+        assertTrue(commentRepository.findAllById(List.of(root.getId(), reply.getId(), nested.getId())).isEmpty());
+    }
+
+    @Test
+    public void 기간_내_댓글의_답글은_기간과_관계없이_함께_삭제한다() throws InterruptedException {
+        // given
+        User user = userRepository.save(new User("bulk-todo-subtree@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        Comment root = commentRepository.save(new Comment("root", user, todo));
+        Thread.sleep(20);
+        Comment reply = saveReply(user, root);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteCommentsByTodo(
+                todo.getId(), root.getCreatedAt().minusSeconds(1), root.getCreatedAt().plusNanos(10_000_000));
+
+        // then
+        assertEquals(2, response.getDeletedCount());
+        assertTrue(commentRepository.findAllById(List.of(root.getId(), reply.getId())).isEmpty());
+    }
+
+    @Test
+    public void 기간이_올바르지_않으면_InvalidRequestException_에러를_던진다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.deleteCommentsByTodo(1L, now, now));
+
+        // then
+        assertEquals("삭제 기간이 올바르지 않습니다.", exception.getMessage());
+    }
+
+    private List<Long> saveComments(User user, Todo todo, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(commentRepository.save(new Comment("contents-" + i, user, todo)).getId());
+        }
+        return ids;
+    }
+
+    private Comment saveReply(User user, Comment parent) {
+        Comment reply = commentRepository.save(new Comment("reply", user, parent.getTodo(), parent));
+        reply.assignPath(parent.getThreadPath());
+        return commentRepository.save(reply);
+    }
+}
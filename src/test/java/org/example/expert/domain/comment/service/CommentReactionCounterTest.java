@@ -0,0 +1,127 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.entity.CommentReaction;
+import org.example.expert.domain.comment.enums.ReactionType;
+import org.example.expert.domain.comment.repository.CommentReactionRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CommentReactionCounter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentReactionCounterTest {
+
+    @Autowired
+    private CommentReactionCounter commentReactionCounter;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentReactionRepository commentReactionRepository;
+
+    @Test
+    public void flush_와_동시에_반응이_몰려도_누락없이_반영한다() throws Exception {
+        // given
+        Comment comment = saveComment("reaction-concurrent@email.com");
+        int threads = 16;
+        int clicksPerThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicBoolean clicking = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < clicksPerThread; i++) {
+                    commentReactionCounter.increment(comment.getId(), comment.getUser().getId(), ReactionType.LIKE);
+                }
+            }));
+        }
+        Future<?> flusher = executor.submit(() -> {
+            while (clicking.get()) {
+                commentReactionCounter.flush();
+            }
+        });
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        clicking.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        commentReactionCounter.flush();
+
+        // then
+        assertEquals((long) threads * clicksPerThread, storedCounts(comment.getId()).get(ReactionType.LIKE));
+        assertTrue(commentReactionCounter.getPendingCounts(comment.getId()).isEmpty());
+    }
+
+    @Test
+    public void 기존_합계에_증가분을_더하고_쓰이지_않는_카운터는_정리한다() {
+        // given
+        Comment comment = saveComment("reaction-delta@email.com");
+        commentReactionCounter.increment(comment.getId(), comment.getUser().getId(), ReactionType.LIKE);
+        commentReactionCounter.flush();
+
+        // when
+        commentReactionCounter.increment(comment.getId(), comment.getUser().getId(), ReactionType.LIKE);
+        commentReactionCounter.increment(comment.getId(), comment.getUser().getId(), ReactionType.WOW);
+        Map<ReactionType, Long> pending = commentReactionCounter.getPendingCounts(comment.getId());
+        commentReactionCounter.flush();
+        commentReactionCounter.flush();
+
+        // then
+        assertEquals(Map.of(ReactionType.LIKE, 1L, ReactionType.WOW, 1L), pending);
+        assertEquals(Map.of(ReactionType.LIKE, 2L, ReactionType.WOW, 1L), storedCounts(comment.getId()));
+        assertEquals(0, commentReactionCounter.getPendingSize());
+    }
+
+    @Test
+    public void 삭제된_댓글의_반응은_저장하지_않는다() {
+        // given
+        Comment comment = saveComment("reaction-deleted@email.com");
+        commentReactionCounter.increment(comment.getId(), comment.getUser().getId(), ReactionType.SAD);
+        commentRepository.deleteById(comment.getId());
+
+        // when
+        commentReactionCounter.flush();
+
+        // then
+        assertTrue(commentReactionRepository.findAllByCommentId(comment.getId()).isEmpty());
+    }
+
+    private Comment saveComment(String email) {
+        User user = userRepository.save(new User(email, "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        return commentRepository.save(new Comment("contents", user, todo));
+    }
+
+    private Map<ReactionType, Long> storedCounts(long commentId) {
+        Map<ReactionType, Long> counts = new ConcurrentHashMap<>();
+        for (CommentReaction reaction : commentReactionRepository.findAllByCommentId(commentId)) {
+            counts.put(reaction.getReactionType(), reaction.getCount());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentReactionRequest;
+import org.example.expert.domain.comment.dto.response.CommentReactionResponse;
+import org.example.expert.domain.comment.entity.CommentReaction;
+import org.example.expert.domain.comment.enums.ReactionType;
+import org.example.expert.domain.comment.repository.CommentReactionRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentReactionServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private CommentReactionRepository commentReactionRepository;
+    @Mock
+    private CommentReactionCounter commentReactionCounter;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
+    @InjectMocks
+    private CommentReactionService commentReactionService;
+
+    @Test
+    public void 반응을_더하고_저장된_합계와_대기중인_증가분을_합쳐_반환한다() {
+        // given
+        long todoId = 1L;
+        long commentId = 2L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(1L, new long[]{1L}));
+        given(commentRepository.existsByIdAndTodoId(commentId, todoId)).willReturn(true);
+        given(commentReactionRepository.findAllByCommentId(commentId)).willReturn(List.of(
+                new CommentReaction(commentId, ReactionType.LIKE, 10L),
+                new CommentReaction(commentId, ReactionType.SAD, 1L)
+        ));
+        given(commentReactionCounter.getPendingCounts(commentId)).willReturn(Map.of(ReactionType.LIKE, 3L, ReactionType.WOW, 1L));
+
+        // when
+        CommentReactionResponse response = commentReactionService.react(authUser, todoId, commentId, new CommentReactionRequest("like"));
+
+        // then
+        verify(commentReactionCounter).increment(commentId, authUser.getId(), ReactionType.LIKE);
+        assertEquals(Map.of(ReactionType.LIKE, 13L, ReactionType.SAD, 1L, ReactionType.WOW, 1L), response.getCounts());
+    }
+
+    @Test
+    public void 할일에_없는_댓글에는_반응할_수_없다() {
+        // given
+        long todoId = 1L;
+        long commentId = 2L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(1L, new long[]{1L}));
+        given(commentRepository.existsByIdAndTodoId(commentId, todoId)).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+            commentReactionService.react(authUser, todoId, commentId, new CommentReactionRequest("like"));
+        });
+
+        // then
+        assertEquals("Comment not found", exception.getMessage());
+        verify(commentReactionCounter, never()).increment(anyLong(), anyLong(), any());
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.SqlStatementCountConfig;
+import org.example.expert.support.SqlStatementRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({CommentService.class, CommentWriteBehindQueue.class, ChangeLogService.class, TodoMembershipIndex.class,
+        PersistenceConfig.class, SqlStatementCountConfig.class})
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    public void 담당자_수와_관계없이_댓글_등록은_고정된_수의_쿼리만_실행한다() {
+        Fixture small = persistTodo(1);
+        Fixture large = persistTodo(50);
+
+        assertEquals(saveCommentStatementCount(small), saveCommentStatementCount(large));
+    }
+
+    @Test
+    public void 멤버십이_캐시된_뒤에는_insert만_실행한다() {
+        // given
+        Fixture fixture = persistTodo(10);
+
+        // when & then
+        // 작성자 조회 1 + 담당자 id 조회 1 + 댓글 insert 1 + 변경 내역 insert 1
+        sqlStatementRecorder.assertStatementCount(4, () -> saveComment(fixture));
+        // 댓글 insert 1 + 변경 내역 insert 1
+        sqlStatementRecorder.assertStatementCount(2, () -> saveComment(fixture));
+    }
+
+    // 마지막으로 배치된 담당자가 댓글을 답니다.
+    private Fixture persistTodo(int managerCount) {
+        User owner = entityManager.persist(new User("owner" + managerCount + "@email.com", "password", UserRole.USER));
+        Todo todo = entityManager.persist(new Todo("title", "contents", "sunny", owner));
+        User lastManager = owner;
+        for (int i = 0; i < managerCount; i++) {
+            lastManager = entityManager.persist(new User("manager" + managerCount + "-" + i + "@email.com", "password", UserRole.USER));
+            entityManager.persist(new Manager(lastManager, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return new Fixture(new AuthUser(lastManager.getId(), lastManager.getEmail(), UserRole.USER), todo.getId());
+    }
+
+    private int saveCommentStatementCount(Fixture fixture) {
+        sqlStatementRecorder.clear();
+        saveComment(fixture);
+        return sqlStatementRecorder.getStatements().size();
+    }
+
+    private void saveComment(Fixture fixture) {
+        commentService.saveComment(fixture.authUser(), fixture.todoId(), new CommentSaveRequest("contents"));
+        entityManager.flush();
+    }
+
+    private record Fixture(AuthUser authUser, long todoId) {
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
@@ -8,17 +9,22 @@ import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.sync.service.ChangeLogService;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,7 +32,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +43,14 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
+    @Mock
+    private ChangeLogService changeLogService;
+    @Mock
+    private CommentWriteBehindQueue commentWriteBehindQueue;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private CommentService commentService;
 
@@ -47,7 +61,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoMembershipIndex.get(todoId)).willReturn(null);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -68,13 +82,10 @@ class CommentServiceTest {
 
         Todo todo = mock(Todo.class);
 
-        List<Manager> managers = new ArrayList<>();
-        Manager manger = new Manager(user, todo);
-        managers.add(manger);
-
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-
-        given(todo.getManagers()).willReturn(managers);
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(user.getId(), new long[]{user.getId()}));
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         Comment comment = new Comment(request.getContents(), user, todo);
         given(commentRepository.save(any(Comment.class))).willReturn(comment);
@@ -87,22 +98,33 @@ class CommentServiceTest {
     }
 
     @Test
-    public void todo의_매니저가_아니라면_댓글을_등록하지_못함() {
+    public void write_behind_모드에서는_큐에_넣고_배치_커밋을_기다린다() {
         // given
         long todoId = 1L;
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        User nonManagerUser = new User("test@email.com", "testPassword", UserRole.USER);
-        ReflectionTestUtils.setField(nonManagerUser, "id", 2L);
 
-        Todo todo = mock(Todo.class);
-        List<Manager> managers = new ArrayList<>();
-        Manager manager = new Manager(nonManagerUser, todo);
-        managers.add(manager);
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(1L, new long[]{1L}));
+        given(commentWriteBehindQueue.isEnabled()).willReturn(true);
+        given(commentWriteBehindQueue.submit(todoId, 1L, "contents")).willReturn(10L);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-        given(todo.getManagers()).willReturn(managers);
+        // when
+        CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
+
+        // then
+        assertEquals(10L, result.getId());
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    public void todo의_매니저가_아니라면_댓글을_등록하지_못함() {
+        // given
+        long todoId = 1L;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(2L, new long[]{2L}));
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -161,4 +183,73 @@ class CommentServiceTest {
         // then
         assertTrue(dtoList.isEmpty());
     }
+
+    @Test
+    public void comment_페이지를_커서_기준으로_조회() {
+        // given
+        long todoId = 1;
+        User user = new User("email", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "sunny", user);
+
+        List<Comment> commentList = new ArrayList<>();
+        for (long id = 11; id <= 13; id++) {
+            Comment comment = new Comment("content" + id, user, todo);
+            ReflectionTestUtils.setField(comment, "id", id);
+            commentList.add(comment);
+        }
+        given(commentRepository.findPageByTodoIdWithUser(eq(todoId), eq(10L), any(Pageable.class))).willReturn(commentList);
+
+        // when
+        CommentPageResponse response = commentService.getCommentPage(todoId, 10L, 2);
+
+        // then
+        assertEquals(2, response.getComments().size());
+        assertEquals(12L, response.getNextCursor());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    public void comment_페이지_크기는_최대값을_넘지_않는다() {
+        // given
+        long todoId = 1;
+        ReflectionTestUtils.setField(commentService, "maxPageSize", 50);
+        given(commentRepository.findPageByTodoIdWithUser(eq(todoId), eq(0L), any(Pageable.class))).willReturn(new ArrayList<>());
+
+        // when
+        CommentPageResponse response = commentService.getCommentPage(todoId, null, 10_000);
+
+        // then
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(commentRepository).findPageByTodoIdWithUser(eq(todoId), eq(0L), captor.capture());
+        assertEquals(51, captor.getValue().getPageSize());
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    public void 최대_깊이의_댓글에는_답글을_달_수_없다() {
+        // given
+        long todoId = 1L;
+        long commentId = 2L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+        Comment parent = new Comment("contents", user, todo);
+        ReflectionTestUtils.setField(parent, "id", commentId);
+        ReflectionTestUtils.setField(parent, "depth", Comment.MAX_DEPTH - 1);
+
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(1L, new long[]{1L}));
+        given(commentRepository.findById(commentId)).willReturn(Optional.of(parent));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+            commentService.saveReply(authUser, todoId, commentId, new CommentSaveRequest("reply"));
+        });
+
+        // then
+        assertEquals("더 이상 답글을 달 수 없습니다.", exception.getMessage());
+        verify(commentRepository, never()).save(any());
+    }
 }
@@ -0,0 +1,152 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
+import org.example.expert.domain.comment.dto.response.CommentReplyResponse;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({CommentService.class, CommentWriteBehindQueue.class, ChangeLogService.class, TodoMembershipIndex.class, PersistenceConfig.class})
+class CommentThreadTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private CommentService commentService;
+
+    private AuthUser authUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(new User("thread@email.com", "password", UserRole.USER));
+        todo = entityManager.persist(new Todo("title", "contents", "sunny", owner));
+        entityManager.flush();
+        authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+    }
+
+    @Test
+    public void 서브트리를_전위_순회_순서로_조회한다() {
+        // given
+        long root = save("root");
+        long otherRoot = save("other");
+        long a = reply(root, "a");
+        long b = reply(root, "b");
+        long a1 = reply(a, "a1");
+        long b1 = reply(b, "b1");
+        long a1x = reply(a1, "a1x");
+        long a2 = reply(a, "a2");
+        reply(otherRoot, "other-reply");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CommentThreadResponse thread = commentService.getThread(todo.getId(), root, null, 100);
+        CommentThreadResponse subtree = commentService.getThread(todo.getId(), a, null, 100);
+
+        // then
+        assertEquals(List.of(a, a1, a1x, a2, b, b1), ids(thread.getReplies()));
+        assertEquals(List.of(1, 2, 3, 2, 1, 2), thread.getReplies().stream().map(CommentReplyResponse::getDepth).toList());
+        assertEquals(a1, thread.getReplies().get(2).getParentId());
+        assertFalse(thread.isHasMore());
+        assertEquals(List.of(a1, a1x, a2), ids(subtree.getReplies()));
+    }
+
+    @Test
+    public void 커서로_서브트리를_나누어_조회한다() {
+        // given
+        long root = save("root");
+        long parent = root;
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            parent = reply(parent, "deep-" + i);
+            expected.add(parent);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            CommentThreadResponse page = commentService.getThread(todo.getId(), root, cursor, 2);
+            actual.addAll(ids(page.getReplies()));
+            cursor = page.getNextCursor();
+            hasMore = page.isHasMore();
+            pages++;
+        }
+
+        // then
+        assertEquals(expected, actual);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    public void 댓글_목록에는_루트_댓글만_담는다() {
+        // given
+        long root = save("root");
+        long otherRoot = save("other");
+        reply(root, "a");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CommentResponse> comments = commentService.getComments(todo.getId());
+        CommentPageResponse page = commentService.getCommentPage(todo.getId(), null, 10);
+
+        // then
+        assertEquals(List.of(root, otherRoot), comments.stream().map(CommentResponse::getId).toList());
+        assertEquals(List.of(root, otherRoot), page.getComments().stream().map(CommentResponse::getId).toList());
+    }
+
+    @Test
+    public void 다른_할일의_댓글에는_답글을_달_수_없다() {
+        // given
+        Todo otherTodo = entityManager.persist(new Todo("other", "contents", "sunny", entityManager.find(User.class, authUser.getId())));
+        long root = save("root");
+        entityManager.flush();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.saveReply(authUser, otherTodo.getId(), root, new CommentSaveRequest("reply")));
+
+        // then
+        assertEquals("Comment not found", exception.getMessage());
+    }
+
+    private long save(String contents) {
+        return commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest(contents)).getId();
+    }
+
+    private long reply(long parentId, String contents) {
+        long id = commentService.saveReply(authUser, todo.getId(), parentId, new CommentSaveRequest(contents)).getId();
+        entityManager.flush();
+        return id;
+    }
+
+    private List<Long> ids(List<CommentReplyResponse> replies) {
+        return replies.stream().map(CommentReplyResponse::getId).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentWriteBehindStatsResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.sync.repository.ChangeLogRepository;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "comment.write-behind.enabled=true",
+        "comment.write-behind.shards=2",
+        "comment.write-behind.max-delay-millis=20"
+})
+@Import({CommentWriteBehindQueue.class, ChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentWriteBehindQueueTest {
+
+    @Autowired
+    private CommentWriteBehindQueue commentWriteBehindQueue;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Test
+    public void 동시에_들어온_댓글을_배치로_묶어_저장한다() throws Exception {
+        // given
+        User user = userRepository.save(new User("writer@email.com", "password", UserRole.USER));
+        Todo todo1 = todoRepository.save(new Todo("title1", "contents", "sunny", user));
+        Todo todo2 = todoRepository.save(new Todo("title2", "contents", "sunny", user));
+        long commentsBefore = commentRepository.count();
+        long changeLogsBefore = changeLogRepository.count();
+        CommentWriteBehindStatsResponse statsBefore = commentWriteBehindQueue.getStats();
+
+        int requests = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<Long>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            long todoId = i % 2 == 0 ? todo1.getId() : todo2.getId();
+            String contents = "comment-" + i;
+            futures.add(executor.submit(() -> commentWriteBehindQueue.submit(todoId, user.getId(), contents)));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            ids.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(requests, ids.stream().distinct().count());
+        assertEquals(commentsBefore + requests, commentRepository.count());
+        assertEquals(changeLogsBefore + requests, changeLogRepository.count());
+
+        CommentWriteBehindStatsResponse stats = commentWriteBehindQueue.getStats();
+        assertEquals(requests, stats.getFlushed() - statsBefore.getFlushed());
+        assertTrue(stats.getFlushes() - statsBefore.getFlushes() < requests);
+        assertEquals(0, stats.getQueueDepth());
+    }
+
+    @Test
+    public void 같은_할일의_댓글은_들어온_순서대로_저장된다() {
+        // given
+        User user = userRepository.save(new User("order@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+
+        // when
+        long first = commentWriteBehindQueue.submit(todo.getId(), user.getId(), "first");
+        long second = commentWriteBehindQueue.submit(todo.getId(), user.getId(), "second");
+
+        // then
+        assertTrue(first < second);
+    }
+
+    @Test
+    public void 존재하지_않는_할일의_댓글은_실패로_처리된다() {
+        // given
+        User user = userRepository.save(new User("fail@email.com", "password", UserRole.USER));
+
+        // when & then
+        assertThrows(RuntimeException.class,
+                () -> commentWriteBehindQueue.submit(Long.MAX_VALUE, user.getId(), "contents"));
+    }
+
+    @Test
+    public void 시간_초과된_댓글은_취소되어_이후에도_저장되지_않는다() throws Exception {
+        // given
+        User user = userRepository.save(new User("timeout@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        long commentsBefore = commentRepository.count();
+        ReflectionTestUtils.setField(commentWriteBehindQueue, "flushTimeoutMillis", 1L);
+        ReflectionTestUtils.setField(commentWriteBehindQueue, "maxDelayMillis", 500L);
+
+        // when
+        try {
+            assertThrows(ServerException.class,
+                    () -> commentWriteBehindQueue.submit(todo.getId(), user.getId(), "late"));
+            Thread.sleep(1000);
+        } finally {
+            ReflectionTestUtils.setField(commentWriteBehindQueue, "flushTimeoutMillis", 5000L);
+            ReflectionTestUtils.setField(commentWriteBehindQueue, "maxDelayMillis", 20L);
+        }
+
+        // then
+        assertEquals(commentsBefore, commentRepository.count());
+    }
+}
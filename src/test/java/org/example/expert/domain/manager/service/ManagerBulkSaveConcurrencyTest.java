@@ -0,0 +1,131 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkInserter;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ManagerService.class, ManagerBulkInserter.class, ChangeLogService.class, TodoMembershipIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ManagerBulkSaveConcurrencyTest {
+
+    @MockBean
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Test
+    public void 같은_담당자를_동시에_일괄_등록해도_중복되지_않는다() throws Exception {
+        // given
+        User owner = userRepository.save(new User("bulk-owner@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            userIds.add(userRepository.save(new User("bulk-manager" + i + "@email.com", "password", UserRole.USER)).getId());
+        }
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        int requests = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ManagerBulkSaveResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            List<Long> shuffled = new ArrayList<>(userIds);
+            shuffled.add(owner.getId());
+            Collections.shuffle(shuffled, new Random(i));
+            futures.add(executor.submit(() -> {
+                start.await();
+                return managerService.saveManagers(authUser, todo.getId(), new ManagerBulkSaveRequest(shuffled));
+            }));
+        }
+        start.countDown();
+
+        int added = 0;
+        for (Future<ManagerBulkSaveResponse> future : futures) {
+            ManagerBulkSaveResponse response = future.get(30, TimeUnit.SECONDS);
+            added += response.getManagers().size();
+            assertEquals(userIds.size(), response.getManagers().size() + response.getExistingUserIds().size());
+            assertEquals(List.of(owner.getId()), response.getRejectedUserIds());
+        }
+        executor.shutdown();
+
+        // then
+        List<Long> managerUserIds = managerRepository.findUserIdsByTodoId(todo.getId());
+        assertEquals(userIds.size() + 1, managerUserIds.size());
+        assertEquals(managerUserIds.size(), new HashSet<>(managerUserIds).size());
+        assertEquals(userIds.size(), added);
+    }
+
+    @Test
+    public void 없는_유저와_이미_등록된_유저를_구분해서_반환한다() {
+        // given
+        User owner = userRepository.save(new User("bulk-owner2@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        User manager = userRepository.save(new User("bulk-manager-single@email.com", "password", UserRole.USER));
+        User existing = userRepository.save(new User("bulk-manager-existing@email.com", "password", UserRole.USER));
+        managerRepository.save(new Manager(existing, todo));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todo.getId(),
+                new ManagerBulkSaveRequest(List.of(manager.getId(), existing.getId(), manager.getId(), Long.MAX_VALUE)));
+
+        // then
+        assertEquals(1, response.getManagers().size());
+        assertEquals(manager.getId(), response.getManagers().get(0).getUser().getId());
+        assertNotNull(response.getManagers().get(0).getId());
+        assertEquals(List.of(existing.getId()), response.getExistingUserIds());
+        assertEquals(List.of(Long.MAX_VALUE), response.getMissingUserIds());
+        assertTrue(response.getRejectedUserIds().isEmpty());
+    }
+
+    @Test
+    public void 일정_작성자_본인은_거절된_유저로_반환한다() {
+        // given
+        User owner = userRepository.save(new User("bulk-owner3@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        User manager = userRepository.save(new User("bulk-manager-owner-case@email.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todo.getId(),
+                new ManagerBulkSaveRequest(List.of(owner.getId(), manager.getId())));
+
+        // then
+        assertEquals(1, response.getManagers().size());
+        assertEquals(manager.getId(), response.getManagers().get(0).getUser().getId());
+        assertTrue(response.getExistingUserIds().isEmpty());
+        assertTrue(response.getMissingUserIds().isEmpty());
+        assertEquals(List.of(owner.getId()), response.getRejectedUserIds());
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkInserter;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.SqlStatementCountConfig;
+import org.example.expert.support.SqlStatementRecorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ManagerService.class, ManagerBulkInserter.class, ChangeLogService.class, TodoMembershipIndex.class, PersistenceConfig.class,
+        SqlStatementCountConfig.class})
+class ManagerServiceQueryCountTest {
+
+    @MockBean
+    private JwtUtil jwtUtil;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private ManagerService managerService;
+
+    private User owner;
+    private Todo todo;
+    private Manager manager;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(new User("delete-owner@email.com", "password", UserRole.USER));
+        User managerUser = entityManager.persist(new User("delete-manager@email.com", "password", UserRole.USER));
+        todo = entityManager.persist(new Todo("title", "contents", "sunny", owner));
+        manager = entityManager.persist(new Manager(managerUser, todo));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        sqlStatementRecorder.clear();
+    }
+
+    @Test
+    public void 담당자_삭제는_조건부_delete와_변경_내역_insert만_실행한다() {
+        // when
+        managerService.deleteManager(new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), todo.getId(), manager.getId());
+        entityManager.flush();
+
+        // then
+        sqlStatementRecorder.assertStatementCount(2);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertNull(entityManager.find(Manager.class, manager.getId()));
+    }
+
+    @Test
+    public void 담당자_등록은_멤버십과_유저를_한_번씩_조회하고_insert만_실행한다() {
+        // given
+        User newManager = entityManager.persist(new User("new-manager@email.com", "password", UserRole.USER));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        // 작성자 조회 1 + 담당자 id 조회 1 + 담당자 유저 조회 1 + 담당자 insert 1 + 변경 내역 insert 1
+        sqlStatementRecorder.assertStatementCount(5, () -> {
+            managerService.saveManager(new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), todo.getId(),
+                    new ManagerSaveRequest(newManager.getId()));
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    public void 일정_작성자가_아니면_삭제되지_않는다() {
+        // given
+        AuthUser stranger = new AuthUser(owner.getId() + 1000, "stranger@email.com", UserRole.USER);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(stranger, todo.getId(), manager.getId()));
+
+        // then
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        assertNotNull(entityManager.find(Manager.class, manager.getId()));
+    }
+
+    @Test
+    public void 다른_일정의_담당자는_삭제되지_않는다() {
+        // given
+        Todo otherTodo = entityManager.persist(new Todo("other", "contents", "sunny", owner));
+        entityManager.flush();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), otherTodo.getId(), manager.getId()));
+
+        // then
+        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
+        assertNotNull(entityManager.find(Manager.class, manager.getId()));
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.domain.manager.service;
 
-import io.jsonwebtoken.Claims;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -9,6 +8,9 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.service.ChangeLogService;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -18,7 +20,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -28,6 +29,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +43,10 @@ class ManagerServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private ChangeLogService changeLogService;
+    @Mock
+    private TodoMembershipIndex todoMembershipIndex;
     @InjectMocks
     private ManagerService managerService;
 
@@ -62,12 +68,9 @@ class ManagerServiceTest {
         long todoId = 1L;
         long managerUserId = 2L;
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(0L, new long[0]));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -108,6 +111,7 @@ class ManagerServiceTest {
 
         long todoId = 1L;
         Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
 
         long managerUserId = 2L;
         User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
@@ -115,8 +119,9 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(user.getId(), new long[]{user.getId()}));
         given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -126,6 +131,29 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        verify(todoMembershipIndex).invalidateAfterCommit(todoId);
+    }
+
+    @Test
+    public void 이미_등록된_담당자는_다시_등록할_수_없다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+        User managerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(1L, new long[]{1L, managerUserId}));
+        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId))
+        );
+
+        // then
+        assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+        verify(managerRepository, never()).save(any(Manager.class));
     }
 
     @Test
@@ -141,7 +169,7 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(user.getId(), new long[]{user.getId()}));
         given(userRepository.findById(managerUserId)).willReturn(Optional.of(user));
 
         // when
@@ -155,100 +183,77 @@ class ManagerServiceTest {
     @Test
     public void 매니저를_성공적으로_삭제() {
         // given
-        String bearerToken = "bearerToken";
-        long userId = 1;
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
         long todoId = 1;
         long managerId = 1;
 
-        User user = new User("test@email.com", "testPassword", UserRole.USER);
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        ReflectionTestUtils.setField(todo, "user", user);
-
-        Manager manager = new Manager();
-        ReflectionTestUtils.setField(manager, "id", managerId);
-        ReflectionTestUtils.setField(manager, "todo", todo);
-
-        Claims claims = Mockito.mock(Claims.class);
-        given(jwtUtil.extractClaims(bearerToken.substring(7))).willReturn(claims);
-        given(claims.getSubject()).willReturn(String.valueOf(userId));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+        given(managerRepository.deleteOwnedManager(managerId, todoId, authUser.getId())).willReturn(1);
 
         // when
-        managerService.deleteManager(bearerToken, todoId, managerId);
+        managerService.deleteManager(authUser, todoId, managerId);
 
         // then
-        verify(managerRepository).delete(manager);
+        verify(changeLogService).record(ChangeEntityType.MANAGER, managerId, todoId, ChangeType.DELETED);
+        verify(todoMembershipIndex).invalidateAfterCommit(todoId);
+        verify(todoMembershipIndex, never()).get(todoId);
     }
 
     @Test
     public void 일정작성자가_아닌경우_예외발생() {
         // given
-        String bearerToken = "bearerToken";
-        long userId = 1;
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
         long anotherUserId = 2;
         long todoId = 1;
         long managerId = 1;
 
-        User user = new User("test@email.com", "testPassword", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
-        User anotherUser = new User("test2@email.com", "testPassword", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", anotherUserId);
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        ReflectionTestUtils.setField(todo, "user", anotherUser);
-
-        Claims claims = Mockito.mock(Claims.class);
-        given(jwtUtil.extractClaims(bearerToken.substring(7))).willReturn(claims);
-        given(claims.getSubject()).willReturn(String.valueOf(userId));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.deleteOwnedManager(managerId, todoId, authUser.getId())).willReturn(0);
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(anotherUserId, new long[]{anotherUserId}));
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> managerService.deleteManager(bearerToken, todoId, managerId));
+                () -> managerService.deleteManager(authUser, todoId, managerId));
 
         // then
         assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
     }
 
     @Test
-    public void 해당일정의_담당자가_아닌경우_예외발생() {
+    public void 삭제할_매니저가_없는경우_예외발생() {
         // given
-        String bearerToken = "bearerToken";
-        long userId = 1;
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
         long todoId = 1;
-        long anotherTodoId = 2;
         long managerId = 1;
 
-        User user = new User("test@email.com", "testPassword", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
+        given(managerRepository.deleteOwnedManager(managerId, todoId, authUser.getId())).willReturn(0);
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(authUser.getId(), new long[]{authUser.getId()}));
+        given(managerRepository.findTodoIdById(managerId)).willReturn(Optional.empty());
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        ReflectionTestUtils.setField(todo, "user", user);
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(authUser, todoId, managerId));
 
-        Todo anotherTodo = new Todo();
-        ReflectionTestUtils.setField(todo, "id", anotherTodoId);
-        ReflectionTestUtils.setField(todo, "user", user);
+        // then
+        assertEquals("Manager not found", exception.getMessage());
+    }
 
-        Manager manager = new Manager(user, anotherTodo);
-        ReflectionTestUtils.setField(manager, "id", managerId);
+    @Test
+    public void 해당일정의_담당자가_아닌경우_예외발생() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        long todoId = 1;
+        long anotherTodoId = 2;
+        long managerId = 1;
 
-        Claims claims = Mockito.mock(Claims.class);
-        given(jwtUtil.extractClaims(bearerToken.substring(7))).willReturn(claims);
-        given(claims.getSubject()).willReturn(String.valueOf(userId));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+        given(managerRepository.deleteOwnedManager(managerId, todoId, authUser.getId())).willReturn(0);
+        given(todoMembershipIndex.get(todoId)).willReturn(new TodoMembershipIndex.Membership(authUser.getId(), new long[]{authUser.getId()}));
+        given(managerRepository.findTodoIdById(managerId)).willReturn(Optional.of(anotherTodoId));
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> managerService.deleteManager(bearerToken, todoId, managerId));
+                () -> managerService.deleteManager(authUser, todoId, managerId));
 
         // then
         assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
+        verify(changeLogService, never()).record(any(), any(), any(), any());
     }
 }
@@ -0,0 +1,165 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoMembershipIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @InjectMocks
+    private TodoMembershipIndex todoMembershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoMembershipIndex.init();
+    }
+
+    @Test
+    public void 처음_조회할_때만_DB를_읽는다() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(1L));
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(3L, 1L, 2L));
+
+        // when
+        TodoMembershipIndex.Membership first = todoMembershipIndex.get(todoId);
+        TodoMembershipIndex.Membership second = todoMembershipIndex.get(todoId);
+
+        // then
+        assertSame(first, second);
+        assertTrue(first.isOwner(1L));
+        assertFalse(first.isOwner(2L));
+        assertTrue(first.isManager(2L));
+        assertFalse(first.isManager(4L));
+        verify(todoRepository, times(1)).findOwnerIdById(todoId);
+        verify(managerRepository, times(1)).findUserIdsByTodoId(todoId);
+    }
+
+    @Test
+    public void 존재하지_않는_할일은_null을_반환하고_캐시하지_않는다() {
+        // given
+        given(todoRepository.findOwnerIdById(anyLong())).willReturn(Optional.empty());
+
+        // when & then
+        assertNull(todoMembershipIndex.get(1L));
+        assertEquals(0, todoMembershipIndex.size());
+    }
+
+    @Test
+    public void 최대_개수를_넘지_않도록_항목을_제거한다() {
+        // given
+        ReflectionTestUtils.setField(todoMembershipIndex, "maxEntries", 2);
+        todoMembershipIndex.init();
+        given(todoRepository.findOwnerIdById(anyLong())).willReturn(Optional.of(1L));
+        given(managerRepository.findUserIdsByTodoId(anyLong())).willReturn(List.of(1L));
+
+        // when
+        for (long todoId = 1; todoId <= 10; todoId++) {
+            todoMembershipIndex.get(todoId);
+        }
+
+        // then
+        assertTrue(todoMembershipIndex.size() <= 2);
+    }
+
+    @Test
+    public void ttl이_지나면_다른_인스턴스에서_회수된_권한을_DB에서_다시_읽는다() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(todoMembershipIndex, "ttlMillis", 50L);
+        todoMembershipIndex.init();
+        long todoId = 1L;
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(1L));
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(1L, 2L), List.of(1L));
+        assertTrue(todoMembershipIndex.get(todoId).isManager(2L));
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertFalse(todoMembershipIndex.get(todoId).isManager(2L));
+        verify(managerRepository, times(2)).findUserIdsByTodoId(todoId);
+    }
+
+    @Test
+    public void 같은_할일을_동시에_조회하면_DB는_한_번만_읽는다() throws Exception {
+        // given
+        long todoId = 1L;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(todoRepository.findOwnerIdById(todoId)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(1L);
+        });
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(1L));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<TodoMembershipIndex.Membership>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> todoMembershipIndex.get(todoId)));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            futures.add(executor.submit(() -> todoMembershipIndex.get(todoId)));
+        }
+        release.countDown();
+        List<TodoMembershipIndex.Membership> results = new ArrayList<>();
+        for (Future<TodoMembershipIndex.Membership> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        for (TodoMembershipIndex.Membership membership : results) {
+            assertSame(results.get(0), membership);
+        }
+        verify(todoRepository, times(1)).findOwnerIdById(todoId);
+    }
+
+    @Test
+    public void 트랜잭션_커밋_후에_무효화된다() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(1L));
+        given(managerRepository.findUserIdsByTodoId(todoId)).willReturn(List.of(1L));
+        todoMembershipIndex.get(todoId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            todoMembershipIndex.invalidateAfterCommit(todoId);
+
+            // then
+            assertEquals(1, todoMembershipIndex.size());
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+            assertEquals(0, todoMembershipIndex.size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
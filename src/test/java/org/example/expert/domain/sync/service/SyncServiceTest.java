@@ -0,0 +1,177 @@
+package org.example.expert.domain.sync.service;
+
+import org.example.expert.domain.comment.dto.response.CommentReplyResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.sync.dto.response.ChangeResponse;
+import org.example.expert.domain.sync.dto.response.SyncResponse;
+import org.example.expert.domain.sync.entity.ChangeLog;
+import org.example.expert.domain.sync.enums.ChangeEntityType;
+import org.example.expert.domain.sync.enums.ChangeType;
+import org.example.expert.domain.sync.repository.ChangeLogRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @InjectMocks
+    private SyncService syncService;
+
+    @Test
+    public void 토큰_없이_요청하면_현재_시점의_토큰만_발급한다() {
+        // given
+        given(changeLogRepository.findFirstByCreatedAtLessThanEqualOrderByIdDesc(any()))
+                .willReturn(Optional.of(changeLog(10L, ChangeEntityType.TODO, 1L, ChangeType.CREATED)));
+
+        // when
+        SyncResponse response = syncService.getChanges(null, 100);
+
+        // then
+        assertTrue(response.getChanges().isEmpty());
+        assertFalse(response.isHasMore());
+
+        given(changeLogRepository.findAllAfter(eq(10L), any(Pageable.class))).willReturn(List.of());
+        assertTrue(syncService.getChanges(response.getNextToken(), 100).getChanges().isEmpty());
+    }
+
+    @Test
+    public void 같은_엔티티의_변경은_마지막_것만_내려준다() {
+        // given
+        String token = syncService.getChanges(null, 100).getNextToken();
+        given(changeLogRepository.findAllAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+                changeLog(1L, ChangeEntityType.MANAGER, 3L, ChangeType.CREATED),
+                changeLog(2L, ChangeEntityType.COMMENT, 5L, ChangeType.CREATED),
+                changeLog(3L, ChangeEntityType.MANAGER, 3L, ChangeType.DELETED)
+        ));
+
+        // when
+        SyncResponse response = syncService.getChanges(token, 100);
+
+        // then
+        assertEquals(2, response.getChanges().size());
+        assertEquals(ChangeEntityType.COMMENT, response.getChanges().get(0).getEntityType());
+        assertEquals(ChangeType.DELETED, response.getChanges().get(1).getChangeType());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    public void 생성_수정된_엔티티는_종류별로_한_번에_조회해_함께_내려준다() {
+        // given
+        String token = syncService.getChanges(null, 100).getNextToken();
+        User user = new User("sync@email.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        Todo otherTodo = new Todo("other", "contents", "sunny", user);
+        ReflectionTestUtils.setField(otherTodo, "id", 2L);
+        Comment comment = new Comment("comment", user, todo);
+        ReflectionTestUtils.setField(comment, "id", 5L);
+        given(changeLogRepository.findAllAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+                changeLog(1L, ChangeEntityType.TODO, 1L, ChangeType.CREATED),
+                changeLog(2L, ChangeEntityType.TODO, 2L, ChangeType.UPDATED),
+                changeLog(3L, ChangeEntityType.COMMENT, 5L, ChangeType.CREATED),
+                changeLog(4L, ChangeEntityType.MANAGER, 3L, ChangeType.DELETED)
+        ));
+        given(todoRepository.findAllByIdInWithUser(List.of(1L, 2L))).willReturn(List.of(todo, otherTodo));
+        given(commentRepository.findAllByIdInWithUser(List.of(5L))).willReturn(List.of(comment));
+
+        // when
+        SyncResponse response = syncService.getChanges(token, 100);
+
+        // then
+        List<ChangeResponse> changes = response.getChanges();
+        assertEquals("title", ((TodoResponse) changes.get(0).getEntity()).getTitle());
+        assertEquals("other", ((TodoResponse) changes.get(1).getEntity()).getTitle());
+        assertEquals("comment", ((CommentReplyResponse) changes.get(2).getEntity()).getContents());
+        assertNull(changes.get(3).getEntity());
+        verify(todoRepository, times(1)).findAllByIdInWithUser(any());
+        verify(commentRepository, times(1)).findAllByIdInWithUser(any());
+        verify(managerRepository, never()).findAllByIdInWithUser(any());
+    }
+
+    @Test
+    public void 요청한_개수보다_변경이_많으면_다음_페이지가_있음을_알린다() {
+        // given
+        String token = syncService.getChanges(null, 100).getNextToken();
+        given(changeLogRepository.findAllAfter(anyLong(), any(Pageable.class))).willReturn(List.of(
+                changeLog(1L, ChangeEntityType.TODO, 1L, ChangeType.CREATED),
+                changeLog(2L, ChangeEntityType.TODO, 2L, ChangeType.CREATED)
+        ));
+
+        // when
+        SyncResponse response = syncService.getChanges(token, 1);
+
+        // then
+        assertEquals(1, response.getChanges().size());
+        assertTrue(response.isHasMore());
+        assertNotEquals(token, response.getNextToken());
+    }
+
+    @Test
+    public void 아직_안정화되지_않은_변경은_다음_동기화로_미룬다() {
+        // given
+        ReflectionTestUtils.setField(syncService, "stableLagMillis", 60_000L);
+        String token = syncService.getChanges(null, 100).getNextToken();
+        ChangeLog recent = changeLog(1L, ChangeEntityType.TODO, 1L, ChangeType.CREATED);
+        ReflectionTestUtils.setField(recent, "createdAt", LocalDateTime.now());
+        given(changeLogRepository.findAllAfter(anyLong(), any(Pageable.class))).willReturn(List.of(recent));
+
+        // when
+        SyncResponse response = syncService.getChanges(token, 100);
+
+        // then
+        assertTrue(response.getChanges().isEmpty());
+        assertEquals(token, response.getNextToken());
+    }
+
+    @Test
+    public void 잘못된_토큰이면_예외가_발생한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> syncService.getChanges("not-a-token", 100));
+
+        // then
+        assertEquals("유효하지 않은 동기화 토큰입니다.", exception.getMessage());
+    }
+
+    private ChangeLog changeLog(Long id, ChangeEntityType entityType, Long entityId, ChangeType changeType) {
+        ChangeLog changeLog = new ChangeLog(entityType, entityId, 1L, changeType);
+        ReflectionTestUtils.setField(changeLog, "id", id);
+        ReflectionTestUtils.setField(changeLog, "createdAt", LocalDateTime.now().minusMinutes(10));
+        return changeLog;
+    }
+}
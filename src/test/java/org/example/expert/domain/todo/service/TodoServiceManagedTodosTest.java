@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.dto.response.TodoCursorPageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.SqlStatementCountConfig;
+import org.example.expert.support.SqlStatementRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TodoService.class, ChangeLogService.class, PersistenceConfig.class, SqlStatementCountConfig.class})
+class TodoServiceManagedTodosTest {
+
+    @MockBean
+    private WeatherClient weatherClient;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoService todoService;
+
+    @Test
+    public void 담당한_일정을_수정일_역순으로_쿼리_한_번씩_나누어_조회한다() {
+        // given
+        User me = entityManager.persist(new User("managed-me@email.com", "password", UserRole.USER));
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User owner = entityManager.persist(new User("managed-owner" + i + "@email.com", "password", UserRole.USER));
+            Todo todo = entityManager.persist(new Todo("title" + i, "contents", "sunny", owner));
+            entityManager.persist(new Manager(me, todo));
+            expected.add(todo.getId());
+        }
+        Todo notMine = entityManager.persist(new Todo("not mine", "contents", "sunny",
+                entityManager.persist(new User("managed-other@email.com", "password", UserRole.USER))));
+        entityManager.flush();
+
+        // 마지막 두 일정은 수정일이 같아 id 로 순서가 정해집니다.
+        for (int i = 0; i < expected.size(); i++) {
+            LocalDateTime modifiedAt = base.plusMinutes(Math.min(i, 3));
+            jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", Timestamp.valueOf(modifiedAt), expected.get(i));
+        }
+        jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", Timestamp.valueOf(base.plusDays(1)), notMine.getId());
+        entityManager.clear();
+
+        AuthUser authUser = new AuthUser(me.getId(), me.getEmail(), UserRole.USER);
+        sqlStatementRecorder.clear();
+
+        // when
+        List<TodoResponse> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            TodoCursorPageResponse page = todoService.getManagedTodos(authUser, cursor, 2);
+            actual.addAll(page.getTodos());
+            cursor = page.getNextCursor();
+            hasMore = page.isHasMore();
+            pages++;
+        }
+
+        // then
+        assertEquals(List.of(expected.get(4), expected.get(3), expected.get(2), expected.get(1), expected.get(0)),
+                actual.stream().map(TodoResponse::getId).toList());
+        assertEquals("managed-owner4@email.com", actual.get(0).getUser().getEmail());
+        assertEquals(3, pages);
+        sqlStatementRecorder.assertStatementCount(pages);
+    }
+
+    @Test
+    public void 잘못된_커서는_InvalidRequestException_에러를_던진다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getManagedTodos(authUser, "not-a-cursor", 10));
+
+        // then
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+}
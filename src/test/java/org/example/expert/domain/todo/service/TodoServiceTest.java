@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.service;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.sync.service.ChangeLogService;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -36,6 +37,9 @@ public class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private ChangeLogService changeLogService;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -0,0 +1,104 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(UserActivityTracker.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserActivityTrackerTest {
+
+    @Autowired
+    private UserActivityTracker userActivityTracker;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void 여러_번의_활동을_유저당_한_번의_갱신으로_합쳐서_기록한다() {
+        // given
+        User user1 = userRepository.save(new User("seen1@email.com", "password", UserRole.USER));
+        User user2 = userRepository.save(new User("seen2@email.com", "password", UserRole.USER));
+        for (int i = 0; i < 100; i++) {
+            userActivityTracker.touch(user1.getId());
+            userActivityTracker.touch(user2.getId());
+        }
+        assertEquals(2, userActivityTracker.pendingSize());
+        assertNull(userRepository.findLastSeenById(user1.getId()).orElseThrow().getLastSeenAt());
+
+        // when
+        userActivityTracker.flush();
+
+        // then
+        assertEquals(0, userActivityTracker.pendingSize());
+        assertNotNull(userRepository.findLastSeenById(user1.getId()).orElseThrow().getLastSeenAt());
+        assertNotNull(userRepository.findLastSeenById(user2.getId()).orElseThrow().getLastSeenAt());
+    }
+
+    @Test
+    public void 저장된_값보다_오래된_활동으로_덮어쓰지_않는다() {
+        // given
+        User user = userRepository.save(new User("seen-later@email.com", "password", UserRole.USER));
+        userActivityTracker.touch(user.getId());
+        LocalDateTime future = LocalDateTime.now().plusDays(1).withNano(0);
+        jdbcTemplate.update("UPDATE users SET last_seen_at = ? WHERE id = ?", future, user.getId());
+
+        // when
+        userActivityTracker.flush();
+
+        // then
+        assertEquals(future, userRepository.findLastSeenById(user.getId()).orElseThrow().getLastSeenAt());
+    }
+
+    @Test
+    public void 엔티티를_수정해도_기록된_활동_시각을_덮어쓰지_않는다() {
+        // given
+        User user = userRepository.save(new User("seen-update@email.com", "password", UserRole.USER));
+        transactionTemplate.executeWithoutResult(status -> {
+            User loaded = userRepository.findById(user.getId()).orElseThrow();
+            userActivityTracker.touch(user.getId());
+            userActivityTracker.flush();
+
+            // when
+            loaded.updateRole(UserRole.ADMIN, LocalDateTime.now());
+            loaded.deactivate(LocalDateTime.now());
+        });
+
+        // then
+        assertNotNull(userRepository.findLastSeenById(user.getId()).orElseThrow().getLastSeenAt());
+        assertEquals(UserRole.ADMIN, userRepository.findById(user.getId()).orElseThrow().getUserRole());
+    }
+
+    @Test
+    public void 조회시_기록되지_않은_메모리_값과_저장된_값_중_최근_값을_돌려준다() {
+        // given
+        long userId = Long.MAX_VALUE;
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+
+        // when
+        userActivityTracker.touch(userId);
+
+        // then
+        assertTrue(userActivityTracker.merge(userId, past).isAfter(past));
+        assertEquals(future, userActivityTracker.merge(userId, future));
+        assertNotNull(userActivityTracker.merge(userId, null));
+        assertNull(userActivityTracker.merge(userId - 1, null));
+    }
+}
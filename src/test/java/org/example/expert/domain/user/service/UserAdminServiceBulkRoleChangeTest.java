@@ -0,0 +1,79 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.SqlStatementCountConfig;
+import org.example.expert.support.SqlStatementRecorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserAdminService.class, UserProfileCache.class, UserRoleChangeRegistry.class, PersistenceConfig.class, SqlStatementCountConfig.class})
+class UserAdminServiceBulkRoleChangeTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private UserAdminService userAdminService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void 엔티티를_읽지_않고_청크당_UPDATE_한_번으로_권한을_바꾼다() {
+        // given
+        ReflectionTestUtils.setField(userAdminService, "roleChunkSize", 3);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            UserRole role = i == 0 ? UserRole.ADMIN : UserRole.USER;
+            userIds.add(entityManager.persist(new User("bulk-role" + i + "@email.com", "password", role)).getId());
+        }
+        userIds.add(Long.MAX_VALUE);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        sqlStatementRecorder.clear();
+
+        // when
+        UserRoleBulkChangeResponse response = userAdminService.changeUserRoles(userIds, "ADMIN");
+
+        // then
+        assertEquals(8, response.getRequestedCount());
+        assertEquals(6, response.getUpdatedCount());
+        assertEquals(3, response.getChunkCount());
+        sqlStatementRecorder.assertStatementCount(3);
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        entityManager.clear();
+        for (User user : userRepository.findAllById(userIds)) {
+            assertEquals(UserRole.ADMIN, user.getUserRole());
+        }
+
+        // 다른 인스턴스도 DB 에서 바뀐 권한을 읽어 와 기존 토큰을 거절할 수 있어야 합니다.
+        UserRoleChangeRegistry otherInstance = new UserRoleChangeRegistry(userRepository);
+        otherInstance.refresh();
+        assertNull(otherInstance.getChangedRole(userIds.get(0)));
+        for (Long userId : userIds.subList(1, 7)) {
+            assertEquals(UserRole.ADMIN, otherInstance.getChangedRole(userId));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserSummaryPageResponse;
+import org.example.expert.domain.user.dto.response.UserSummaryResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.SqlStatementCountConfig;
+import org.example.expert.support.SqlStatementRecorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserAdminService.class, UserProfileCache.class, UserRoleChangeRegistry.class, PersistenceConfig.class, SqlStatementCountConfig.class})
+class UserAdminServiceSearchTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Test
+    public void 이메일_접두사로_검색하고_email_순서로_나누어_조회한다() {
+        // given
+        for (String email : List.of("search-c@email.com", "search-a@email.com", "search-b@email.com", "other@email.com")) {
+            entityManager.persist(new User(email, "password", UserRole.USER));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        sqlStatementRecorder.clear();
+
+        // when
+        UserSummaryPageResponse first = userAdminService.searchUsers("search-", null, 2);
+        UserSummaryPageResponse second = userAdminService.searchUsers("search-", first.getNextCursor(), 2);
+
+        // then
+        List<String> emails = new ArrayList<>();
+        first.getUsers().forEach(user -> emails.add(user.getEmail()));
+        second.getUsers().forEach(user -> emails.add(user.getEmail()));
+        assertEquals(List.of("search-a@email.com", "search-b@email.com", "search-c@email.com"), emails);
+        assertTrue(first.isHasMore());
+        assertFalse(second.isHasMore());
+
+        UserSummaryResponse user = first.getUsers().get(0);
+        assertEquals(UserRole.USER, user.getUserRole());
+        assertNotNull(user.getCreatedAt());
+
+        sqlStatementRecorder.assertStatementCount(2);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void 접두사의_LIKE_특수문자는_글자_그대로_비교한다() {
+        // given
+        entityManager.persist(new User("under_score@email.com", "password", UserRole.USER));
+        entityManager.persist(new User("underXscore@email.com", "password", UserRole.USER));
+        entityManager.flush();
+
+        // when
+        UserSummaryPageResponse response = userAdminService.searchUsers("under_", null, 10);
+
+        // then
+        assertEquals(1, response.getUsers().size());
+        assertEquals("under_score@email.com", response.getUsers().get(0).getEmail());
+    }
+
+    @Test
+    public void 잘못된_커서는_예외처리() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userAdminService.searchUsers(null, "not-a-cursor", 10));
+
+        // then
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package org.example.expert.domain.user.service;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -10,12 +11,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +29,12 @@ public class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private UserRoleChangeRegistry userRoleChangeRegistry;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -41,6 +53,24 @@ public class UserAdminServiceTest {
 
         // then
         assertEquals(UserRole.ADMIN, user.getUserRole());
+        assertNotNull(user.getRoleChangedAt());
+        verify(userProfileCache).invalidateAfterCommit(userId);
+        verify(userRoleChangeRegistry).addAfterCommit(eq(List.of(userId)), eq(UserRole.ADMIN), any());
+    }
+
+    @Test
+    public void 같은_권한으로_변경하면_기존_토큰을_무효화하지_않는다() {
+        // given
+        long userId = 1;
+        User user = new User("test@email.com", "testPassword", UserRole.ADMIN);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+
+        // when
+        userAdminService.changeUserRole(userId, new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertNull(user.getRoleChangedAt());
+        verifyNoInteractions(userRoleChangeRegistry);
     }
 
     @Test
@@ -58,4 +88,35 @@ public class UserAdminServiceTest {
         // then
         assertEquals("User not found", exception.getMessage());
     }
+
+    @Test
+    public void 유저_권한을_청크로_나누어_일괄_변경하고_캐시는_한_번만_무효화한다() {
+        // given
+        ReflectionTestUtils.setField(userAdminService, "roleChunkSize", 2);
+        given(userRepository.updateRoles(eq(List.of(1L, 2L)), eq(UserRole.ADMIN), any())).willReturn(2);
+        given(userRepository.updateRoles(eq(List.of(3L, 4L)), eq(UserRole.ADMIN), any())).willReturn(1);
+        given(userRepository.updateRoles(eq(List.of(5L)), eq(UserRole.ADMIN), any())).willReturn(0);
+
+        // when
+        UserRoleBulkChangeResponse response = userAdminService.changeUserRoles(Arrays.asList(5L, 3L, 1L, null, 4L, 2L, 3L), "admin");
+
+        // then
+        assertEquals(5, response.getRequestedCount());
+        assertEquals(3, response.getUpdatedCount());
+        assertEquals(3, response.getChunkCount());
+        verify(userProfileCache).invalidateAllAfterCommit(List.of(1L, 2L, 3L, 4L, 5L));
+        verify(userRoleChangeRegistry).addAfterCommit(eq(List.of(1L, 2L, 3L, 4L, 5L)), eq(UserRole.ADMIN), any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    public void 일괄_변경시_잘못된_권한이면_갱신하지_않는다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userAdminService.changeUserRoles(List.of(1L), "OWNER"));
+
+        // then
+        assertEquals("유효하지 않은 UerRole", exception.getMessage());
+        verifyNoInteractions(userRepository, userProfileCache, userRoleChangeRegistry);
+    }
 }
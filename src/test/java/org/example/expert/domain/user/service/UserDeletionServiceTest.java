@@ -0,0 +1,189 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.entity.CommentReaction;
+import org.example.expert.domain.comment.enums.ReactionType;
+import org.example.expert.domain.comment.repository.CommentReactionRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentReactionCounter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.TodoMembershipIndex;
+import org.example.expert.domain.sync.service.ChangeLogService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserDeletionResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserDeletionStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserDeletionRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "user.deletion.chunk-size=2",
+        "comment.admin.delete-chunk-size=2"
+})
+@Import({UserDeletionService.class, UserDeactivationRegistry.class, UserProfileCache.class, CommentAdminService.class, CommentReactionCounter.class,
+        ChangeLogService.class, TodoMembershipIndex.class, PasswordEncoder.class, SimpleMeterRegistry.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserDeletionServiceTest {
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+    @Autowired
+    private UserDeactivationRegistry userDeactivationRegistry;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserDeletionRepository userDeletionRepository;
+    @Autowired
+    private CommentReactionCounter commentReactionCounter;
+    @Autowired
+    private CommentReactionRepository commentReactionRepository;
+
+    @Test
+    public void 탈퇴_요청은_즉시_비활성화하고_정리는_백그라운드에서_청크로_나누어_한다() {
+        // given
+        User leaving = userRepository.save(new User("leaving@email.com", passwordEncoder.encode("password"), UserRole.USER));
+        User other = userRepository.save(new User("staying@email.com", "password", UserRole.USER));
+
+        Todo ownTodo1 = todoRepository.save(new Todo("own1", "contents", "sunny", leaving));
+        Todo ownTodo2 = todoRepository.save(new Todo("own2", "contents", "sunny", leaving));
+        Todo ownTodo3 = todoRepository.save(new Todo("own3", "contents", "sunny", leaving));
+        Todo otherTodo = todoRepository.save(new Todo("other", "contents", "sunny", other));
+        managerRepository.save(new Manager(other, ownTodo1));
+        managerRepository.save(new Manager(leaving, otherTodo));
+        commentRepository.save(new Comment("mine on other", leaving, otherTodo));
+        commentRepository.save(new Comment("mine on own", leaving, ownTodo1));
+        commentRepository.save(new Comment("other on own", other, ownTodo2));
+        Comment otherOnOther = commentRepository.save(new Comment("other on other", other, otherTodo));
+
+        // when
+        UserDeletionResponse requested = userDeletionService.requestDeletion(leaving.getId(), "password");
+
+        // then
+        assertEquals(UserDeletionStatus.PENDING, requested.getStatus());
+        assertTrue(userDeactivationRegistry.isDeactivated(leaving.getId()));
+        assertTrue(userRepository.findById(leaving.getId()).orElseThrow().isDeactivated());
+        assertTrue(todoRepository.existsById(ownTodo1.getId()));
+
+        // when
+        userDeletionService.processPending();
+
+        // then
+        UserDeletionResponse completed = userDeletionService.getDeletion(leaving.getId());
+        assertEquals(UserDeletionStatus.COMPLETED, completed.getStatus());
+        assertEquals(3, completed.getDeletedTodos());
+        assertEquals(3, completed.getDeletedComments());
+        assertEquals(1, completed.getDeletedManagers());
+        assertNotNull(completed.getCompletedAt());
+
+        assertFalse(userRepository.existsById(leaving.getId()));
+        assertFalse(todoRepository.existsById(ownTodo3.getId()));
+        assertTrue(todoRepository.existsById(otherTodo.getId()));
+        assertTrue(commentRepository.existsById(otherOnOther.getId()));
+        assertEquals(1, managerRepository.findUserIdsByTodoId(otherTodo.getId()).size());
+        assertTrue(userDeactivationRegistry.isDeactivated(leaving.getId()));
+    }
+
+    @Test
+    public void 탈퇴_유저의_반응은_합계에서_빼고_유저_댓글에_달린_답글은_서브트리째_지운다() {
+        // given
+        User leaving = userRepository.save(new User("leaving-thread@email.com", passwordEncoder.encode("password"), UserRole.USER));
+        User other = userRepository.save(new User("staying-thread@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("thread", "contents", "sunny", other));
+
+        Comment otherRoot = commentRepository.save(new Comment("other root", other, todo));
+        Comment otherReply = saveReply("other reply", other, otherRoot);
+        Comment leavingReply = saveReply("leaving reply", leaving, otherRoot);
+        Comment replyToLeavingReply = saveReply("reply to leaving reply", other, leavingReply);
+        Comment leavingRoot = commentRepository.save(new Comment("leaving root", leaving, todo));
+        Comment replyToLeavingRoot = saveReply("reply to leaving root", other, leavingRoot);
+        Comment nestedReply = saveReply("nested reply", other, replyToLeavingRoot);
+
+        commentReactionCounter.increment(otherRoot.getId(), leaving.getId(), ReactionType.LIKE);
+        commentReactionCounter.increment(otherRoot.getId(), other.getId(), ReactionType.LIKE);
+        commentReactionCounter.flush();
+        // flush 되지 않은 증가분도 함께 되돌려야 합니다.
+        commentReactionCounter.increment(otherRoot.getId(), leaving.getId(), ReactionType.LIKE);
+        commentReactionCounter.increment(otherRoot.getId(), leaving.getId(), ReactionType.WOW);
+
+        // when
+        userDeletionService.requestDeletion(leaving.getId(), "password");
+        userDeletionService.processPending();
+
+        // then
+        Map<ReactionType, Long> counts = new EnumMap<>(ReactionType.class);
+        for (CommentReaction reaction : commentReactionRepository.findAllByCommentId(otherRoot.getId())) {
+            counts.put(reaction.getReactionType(), reaction.getCount());
+        }
+        assertEquals(Map.of(ReactionType.LIKE, 1L, ReactionType.WOW, 0L), counts);
+
+        assertEquals(5, userDeletionService.getDeletion(leaving.getId()).getDeletedComments());
+        assertTrue(commentRepository.existsById(otherRoot.getId()));
+        assertTrue(commentRepository.existsById(otherReply.getId()));
+        for (Comment deleted : List.of(leavingReply, replyToLeavingReply, leavingRoot, replyToLeavingRoot, nestedReply)) {
+            assertFalse(commentRepository.existsById(deleted.getId()));
+        }
+    }
+
+    @Test
+    public void 비밀번호가_틀리면_탈퇴할_수_없다() {
+        // given
+        User user = userRepository.save(new User("wrong-password@email.com", passwordEncoder.encode("password"), UserRole.USER));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userDeletionService.requestDeletion(user.getId(), "wrong"));
+
+        // then
+        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        assertFalse(userDeactivationRegistry.isDeactivated(user.getId()));
+        assertFalse(userRepository.findById(user.getId()).orElseThrow().isDeactivated());
+    }
+
+    @Test
+    public void 다른_인스턴스의_탈퇴_요청은_refresh로_반영된다() {
+        // given
+        User user = userRepository.save(new User("remote@email.com", passwordEncoder.encode("password"), UserRole.USER));
+        userDeletionService.requestDeletion(user.getId(), "password");
+        UserDeactivationRegistry otherInstance = new UserDeactivationRegistry(userDeletionRepository);
+
+        // when
+        otherInstance.refresh();
+
+        // then
+        assertTrue(otherInstance.isDeactivated(user.getId()));
+    }
+
+    private Comment saveReply(String contents, User user, Comment parent) {
+        Comment reply = commentRepository.save(new Comment(contents, user, parent.getTodo(), parent));
+        reply.assignPath(parent.getThreadPath());
+        return commentRepository.save(reply);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.EmailBloomFilter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserImportErrorResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "user.import.chunk-size=2",
+        "user.import.hash-threads=2"
+})
+@Import({UserImportService.class, EmailBloomFilter.class, PasswordEncoder.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    public void CSV를_청크_단위로_가져오고_행별_오류를_알려준다() {
+        // given
+        userRepository.save(new User("csv-existing@email.com", "password", UserRole.USER));
+        String csv = """
+                email,userRole,password
+                csv1@email.com,USER,"pass,word"
+                csv2@email.com,ADMIN,password
+
+                not-an-email,USER,password
+                csv3@email.com,OWNER,password
+                csv-existing@email.com,USER,password
+                csv1@email.com,USER,password
+                "csv4@email.com,USER,password
+                csv5@email.com,user,password
+                """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(body(csv), UserImportFormat.CSV);
+
+        // then
+        assertEquals(3, response.getImportedCount());
+        assertEquals(5, response.getFailedCount());
+        assertEquals(4, response.getChunkCount());
+        assertEquals(List.of(5L, 6L, 7L, 8L, 9L), response.getErrors().stream().map(UserImportErrorResponse::getLine).toList());
+        assertEquals("유효하지 않은 UerRole", response.getErrors().get(1).getMessage());
+        assertEquals("이미 존재하는 이메일입니다.", response.getErrors().get(2).getMessage());
+        assertEquals("이미 존재하는 이메일입니다.", response.getErrors().get(3).getMessage());
+
+        User imported = userRepository.findByEmail("csv1@email.com").orElseThrow();
+        assertEquals(UserRole.USER, imported.getUserRole());
+        assertTrue(passwordEncoder.matches("pass,word", imported.getPassword()));
+        assertEquals(UserRole.ADMIN, userRepository.findByEmail("csv2@email.com").orElseThrow().getUserRole());
+        assertNotNull(imported.getCreatedAt());
+    }
+
+    @Test
+    public void NDJSON을_가져온다() {
+        // given
+        String ndjson = """
+                {"email":"json1@email.com","password":"password","userRole":"USER"}
+                {"email":"json2@email.com","password":"password","userRole":"USER"}
+                {broken
+                {"email":"json3@email.com","userRole":"USER"}
+                """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(body(ndjson), UserImportFormat.NDJSON);
+
+        // then
+        assertEquals(2, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals("잘못된 형식의 행입니다.", response.getErrors().get(0).getMessage());
+        assertTrue(response.getErrors().get(1).getMessage().startsWith("password"));
+        assertTrue(userRepository.existsByEmail("json2@email.com"));
+    }
+
+    @Test
+    public void CSV_헤더에_필수_컬럼이_없으면_실패한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userImportService.importUsers(body("email,password\na@email.com,password\n"), UserImportFormat.CSV));
+
+        // then
+        assertEquals("CSV 헤더에는 email, password, userRole 컬럼이 필요합니다.", exception.getMessage());
+    }
+
+    private static InputStream body(String contents) {
+        return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
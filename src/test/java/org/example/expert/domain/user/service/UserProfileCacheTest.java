@@ -0,0 +1,136 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache.init();
+    }
+
+    @Test
+    public void 두_번째_조회부터는_DB를_읽지_않는다() {
+        // given
+        long userId = 1L;
+        given(userRepository.findById(userId)).willReturn(Optional.of(user(userId, "cache@email.com")));
+
+        // when
+        UserResponse first = userProfileCache.get(userId);
+        UserResponse second = userProfileCache.get(userId);
+
+        // then
+        assertSame(first, second);
+        verify(userRepository, times(1)).findById(userId);
+        UserCacheStatsResponse stats = userProfileCache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    public void 동시에_들어온_miss_는_한_번만_조회한다() throws Exception {
+        // given
+        long userId = 1L;
+        CountDownLatch loading = new CountDownLatch(1);
+        given(userRepository.findById(userId)).willAnswer(invocation -> {
+            loading.await(5, TimeUnit.SECONDS);
+            return Optional.of(user(userId, "coalesce@email.com"));
+        });
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<UserResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> userProfileCache.get(userId)));
+        }
+        Thread.sleep(100);
+        loading.countDown();
+        for (Future<UserResponse> future : futures) {
+            assertEquals("coalesce@email.com", future.get(5, TimeUnit.SECONDS).getEmail());
+        }
+        executor.shutdown();
+
+        // then
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    public void 없는_유저는_캐시하지_않고_무효화하면_다시_읽는다() {
+        // given
+        long missingId = 1L;
+        long userId = 2L;
+        given(userRepository.findById(missingId)).willReturn(Optional.empty());
+        given(userRepository.findById(userId)).willReturn(Optional.of(user(userId, "invalidate@email.com")));
+
+        // when
+        assertNull(userProfileCache.get(missingId));
+        assertNull(userProfileCache.get(missingId));
+        userProfileCache.get(userId);
+        userProfileCache.invalidateAfterCommit(userId);
+        userProfileCache.get(userId);
+
+        // then
+        verify(userRepository, times(2)).findById(missingId);
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    public void 여러_유저는_캐시에_없는_id_만_나누어_IN_쿼리로_읽는다() {
+        // given
+        ReflectionTestUtils.setField(userProfileCache, "loadChunkSize", 2);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "cached@email.com")));
+        userProfileCache.get(1L);
+
+        given(userRepository.findAllById(anyIterable())).willAnswer(invocation -> {
+            List<User> users = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                if (id != 5L) {
+                    users.add(user(id, "user" + id + "@email.com"));
+                }
+            }
+            return users;
+        });
+
+        // when
+        Map<Long, UserResponse> users = userProfileCache.getAll(List.of(1L, 2L, 3L, 4L, 5L));
+
+        // then
+        assertEquals(Set.of(1L, 2L, 3L, 4L), users.keySet());
+        verify(userRepository, times(2)).findAllById(anyIterable());
+    }
+
+    private User user(long id, String email) {
+        User user = new User(email, "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
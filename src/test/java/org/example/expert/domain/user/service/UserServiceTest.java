@@ -3,9 +3,12 @@ package org.example.expert.domain.user.service;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
+import org.example.expert.domain.user.dto.response.UserLastSeenResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserLastSeen;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +17,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -29,6 +35,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private UserActivityTracker userActivityTracker;
+
     @InjectMocks
     private UserService userService;
 
@@ -37,17 +49,12 @@ public class UserServiceTest {
         // given
         long userId = 1;
 
-        User user = new User("test@email.com", "testPassword", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userProfileCache.get(userId)).willReturn(new UserResponse(userId, "test@email.com"));
 
         // when
         UserResponse response = userService.getUser(userId);
 
         // then
-        verify(userRepository).findById(userId);
-        assertEquals("test@email.com", response.getEmail());
         assertEquals(1, response.getId());
         assertEquals("test@email.com", response.getEmail());
     }
@@ -57,7 +64,7 @@ public class UserServiceTest {
         // given
         long userId = 1;
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userProfileCache.get(userId)).willReturn(null);
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
                 () -> userService.getUser(userId));
@@ -66,6 +73,56 @@ public class UserServiceTest {
         assertEquals("User not found", exception.getMessage());
     }
 
+    @Test
+    public void 마지막_활동_시각은_메모리_값과_합쳐서_조회한다() {
+        // given
+        long userId = 1;
+        LocalDateTime stored = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime merged = LocalDateTime.of(2024, 1, 1, 0, 5);
+        UserLastSeen lastSeen = mock(UserLastSeen.class);
+
+        given(lastSeen.getLastSeenAt()).willReturn(stored);
+        given(userRepository.findLastSeenById(userId)).willReturn(Optional.of(lastSeen));
+        given(userActivityTracker.merge(userId, stored)).willReturn(merged);
+
+        // when
+        UserLastSeenResponse response = userService.getLastSeen(userId);
+
+        // then
+        assertEquals(merged, response.getLastSeenAt());
+    }
+
+    @Test
+    public void 여러_유저를_요청한_순서대로_조회하고_없는_id_를_알려준다() {
+        // given
+        List<Long> userIds = List.of(3L, 1L, 99L, 3L, 2L);
+        given(userProfileCache.getAll(List.of(3L, 1L, 99L, 2L))).willReturn(Map.of(
+                1L, new UserResponse(1L, "a@email.com"),
+                2L, new UserResponse(2L, "b@email.com"),
+                3L, new UserResponse(3L, "c@email.com")
+        ));
+
+        // when
+        UserBatchResponse response = userService.getUsers(userIds);
+
+        // then
+        assertEquals(List.of(3L, 1L, 2L), response.getUsers().stream().map(UserResponse::getId).toList());
+        assertEquals(List.of(99L), response.getMissingIds());
+    }
+
+    @Test
+    public void 한_번에_조회할_수_있는_유저_수를_넘으면_예외처리() {
+        // given
+        ReflectionTestUtils.setField(userService, "maxBatchSize", 2);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userService.getUsers(List.of(1L, 2L, 3L)));
+
+        // then
+        assertEquals("조회할 유저 id 는 1개 이상 2개 이하여야 합니다.", exception.getMessage());
+    }
+
     @Test
     public void 비밀번호_변경_성공() {
         // given
@@ -75,7 +132,6 @@ public class UserServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(passwordEncoder.matches("oldPassword", user.getPassword())).willReturn(true);
-        given(passwordEncoder.matches("newPassword123", user.getPassword())).willReturn(false);
         given(passwordEncoder.encode("newPassword123")).willReturn("encodedNewPassword");
 
         // when
@@ -83,18 +139,16 @@ public class UserServiceTest {
 
         //then
         verify(passwordEncoder).encode("newPassword123");
+        verify(passwordEncoder, times(1)).matches(any(), any());
         verify(userRepository).findById(userId);
+        verify(userProfileCache).invalidateAfterCommit(userId);
     }
 
     @Test
     public void 새로운_비밀번호와_기존_비밀번호가_같은경우_예외처리() {
         // given
         long userId = 1;
-        UserChangePasswordRequest request = new UserChangePasswordRequest("oldPassword", "newPassword123");
-        User user = new User("test@email.com", "encodedOldPassword", UserRole.USER);
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("newPassword123", user.getPassword())).willReturn(true);
+        UserChangePasswordRequest request = new UserChangePasswordRequest("newPassword123", "newPassword123");
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -102,6 +156,7 @@ public class UserServiceTest {
 
         // then
         assertEquals("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.", exception.getMessage());
+        verifyNoInteractions(userRepository, passwordEncoder);
     }
 
     @Test
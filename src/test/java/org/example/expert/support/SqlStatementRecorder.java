@@ -0,0 +1,68 @@
+package org.example.expert.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 프록시 DataSource 를 거쳐 실행된 SQL 을 실행 순서대로 모읍니다.
+// JDBC 배치는 DB 왕복 한 번이므로 한 건으로 세고, 배치 크기를 함께 남깁니다.
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    private final List<String> statements = new ArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (execInfo.isBatch()) {
+            sql += " [batch " + execInfo.getBatchSize() + "]";
+        }
+        synchronized (statements) {
+            statements.add(sql);
+        }
+    }
+
+    public void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public List<String> getStatements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    // 기록을 비우고 action 을 실행한 뒤, 실행된 SQL 수가 예산과 정확히 같은지 확인합니다.
+    public void assertStatementCount(int expected, Runnable action) {
+        clear();
+        action.run();
+        assertStatementCount(expected);
+    }
+
+    public void assertStatementCount(int expected) {
+        List<String> captured = getStatements();
+        if (captured.size() != expected) {
+            throw new AssertionFailedError(describe(expected, captured), expected, captured.size());
+        }
+    }
+
+    private static String describe(int expected, List<String> captured) {
+        StringBuilder message = new StringBuilder()
+                .append("SQL 실행 횟수가 예산과 다릅니다. expected: ").append(expected)
+                .append(", actual: ").append(captured.size());
+        for (int i = 0; i < captured.size(); i++) {
+            message.append(System.lineSeparator()).append(String.format("  %2d. %s", i + 1, captured.get(i)));
+        }
+        return message.toString();
+    }
+}